@@ -45,6 +45,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -676,6 +678,31 @@ public final class AnnotationParser<C> {
     public @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> parseContainers(
             final @NonNull ClassLoader classLoader
     ) throws Exception {
+        return this.parse(this.loadContainers(classLoader));
+    }
+
+    /**
+     * Parses all known {@link org.incendo.cloud.annotations.processing.CommandContainer command containers}, constructing
+     * the commands on the given {@code pool}.
+     *
+     * <p>The containers are loaded and instantiated in priority order on the calling thread, after which the commands are
+     * constructed as described by {@link #parse(Collection, ForkJoinPool)}.</p>
+     *
+     * @param classLoader class loader to use to scan for {@link CommandContainerProcessor#PATH}
+     * @param pool        pool to construct the commands on
+     * @return Collection of parsed commands
+     * @throws Exception re-throws all encountered exceptions.
+     * @see org.incendo.cloud.annotations.processing.CommandContainer CommandContainer for more information.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> parseContainers(
+            final @NonNull ClassLoader classLoader,
+            final @NonNull ForkJoinPool pool
+    ) throws Exception {
+        return this.parse(this.loadContainers(classLoader), pool);
+    }
+
+    private @NonNull List<@NonNull Object> loadContainers(final @NonNull ClassLoader classLoader) throws Exception {
         final List<String> classNames;
         try (InputStream stream = classLoader.getResourceAsStream(CommandContainerProcessor.PATH)) {
             if (stream == null) {
@@ -718,7 +745,7 @@ public final class AnnotationParser<C> {
             instances.add(instance);
         }
 
-        return this.parse(instances);
+        return instances;
     }
 
     /**
@@ -741,6 +768,71 @@ public final class AnnotationParser<C> {
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
     public @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> parse(final @NonNull Collection<@NonNull Object> instances) {
+        this.parseComponents(instances);
+
+        final List<org.incendo.cloud.Command<C>> result = new ArrayList<>();
+        for (final Object instance : instances) {
+            final List<org.incendo.cloud.Command<C>> proxies = new ArrayList<>();
+            final Collection<org.incendo.cloud.Command<C>> commands = this.construct(instance, proxies);
+            for (final org.incendo.cloud.Command<C> proxy : proxies) {
+                ((CommandManager) this.manager).command(proxy);
+            }
+            for (final org.incendo.cloud.Command<C> command : commands) {
+                ((CommandManager) this.manager).command(command);
+            }
+            result.addAll(commands);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Scan some instances of {@link Command}-annotated types and attempt to
+     * compile them into {@link org.incendo.cloud.Command} instances, constructing the commands on the given {@code pool}.
+     *
+     * <p>Default values, suggestion providers, parsers and exception handlers are registered on the calling thread, as they
+     * may depend on each other. The command descriptors are then extracted and the commands are constructed on the
+     * {@code pool}, one task per instance. Once all commands have been constructed, they are registered to the command
+     * manager in a single operation using {@link CommandManager#command(Collection)}. The returned commands are ordered in the
+     * same way as they would have been by {@link #parse(Collection)}.</p>
+     *
+     * <p>All components used during the command construction, such as the extractors, assemblers, builder modifiers and
+     * decorators, as well as the parser suppliers in the {@link org.incendo.cloud.parser.ParserRegistry}, must be safe to
+     * invoke concurrently.</p>
+     *
+     * @param instances instances to scan
+     * @param pool      pool to construct the commands on
+     * @return collection of parsed commands
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> parse(
+            final @NonNull Collection<@NonNull Object> instances,
+            final @NonNull ForkJoinPool pool
+    ) {
+        this.parseComponents(instances);
+
+        final List<ForkJoinTask<Pair<List<org.incendo.cloud.Command<C>>, List<org.incendo.cloud.Command<C>>>>> tasks =
+                new ArrayList<>(instances.size());
+        for (final Object instance : instances) {
+            tasks.add(pool.submit(() -> {
+                final List<org.incendo.cloud.Command<C>> proxies = new ArrayList<>();
+                final List<org.incendo.cloud.Command<C>> commands = this.construct(instance, proxies);
+                return Pair.of(commands, proxies);
+            }));
+        }
+
+        final List<org.incendo.cloud.Command<C>> result = new ArrayList<>();
+        final List<org.incendo.cloud.Command<C>> registrations = new ArrayList<>();
+        for (final ForkJoinTask<Pair<List<org.incendo.cloud.Command<C>>, List<org.incendo.cloud.Command<C>>>> task : tasks) {
+            final Pair<List<org.incendo.cloud.Command<C>>, List<org.incendo.cloud.Command<C>>> constructed = task.join();
+            registrations.addAll(constructed.second());
+            registrations.addAll(constructed.first());
+            result.addAll(constructed.first());
+        }
+        this.manager.command(registrations);
+        return Collections.unmodifiableList(result);
+    }
+
+    private void parseComponents(final @NonNull Collection<@NonNull Object> instances) {
         for (final Object instance : instances) {
             this.parseDefaultValues(instance);
         }
@@ -753,17 +845,6 @@ public final class AnnotationParser<C> {
         for (final Object instance : instances) {
             this.parseExceptionHandlers(instance);
         }
-
-        final List<org.incendo.cloud.Command<C>> result = new ArrayList<>();
-        for (final Object instance : instances) {
-            final Collection<CommandDescriptor> commandDescriptors = this.commandExtractor.extractCommands(instance);
-            final Collection<org.incendo.cloud.Command<C>> commands = this.construct(instance, commandDescriptors);
-            for (final org.incendo.cloud.Command<C> command : commands) {
-                ((CommandManager) this.manager).command(command);
-            }
-            result.addAll(commands);
-        }
-        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -899,19 +980,29 @@ public final class AnnotationParser<C> {
         }
     }
 
-    private @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> construct(
+    /**
+     * Extracts the command descriptors from the given {@code instance} and constructs the commands. Proxies are not
+     * included in the returned list, but are instead added to the given {@code proxies} list.
+     *
+     * @param instance the instance to construct the commands from
+     * @param proxies  list to add the constructed proxy commands to
+     * @return the constructed commands
+     */
+    private @NonNull List<org.incendo.cloud.@NonNull Command<C>> construct(
             final @NonNull Object instance,
-            final @NonNull Collection<@NonNull CommandDescriptor> commandDescriptors
+            final @NonNull List<org.incendo.cloud.@NonNull Command<C>> proxies
     ) {
+        final Collection<CommandDescriptor> commandDescriptors = this.commandExtractor.extractCommands(instance);
         return commandDescriptors.stream()
-                .flatMap(descriptor -> this.constructCommands(instance, descriptor).stream())
+                .flatMap(descriptor -> this.constructCommands(instance, descriptor, proxies).stream())
                 .collect(Collectors.toList());
     }
 
     @SuppressWarnings({"unchecked"})
     private @NonNull Collection<org.incendo.cloud.@NonNull Command<C>> constructCommands(
             final @NonNull Object instance,
-            final @NonNull CommandDescriptor commandDescriptor
+            final @NonNull CommandDescriptor commandDescriptor,
+            final @NonNull List<org.incendo.cloud.@NonNull Command<C>> proxies
     ) {
         final AnnotationAccessor classAnnotations = AnnotationAccessor.of(instance.getClass());
         final List<org.incendo.cloud.Command<C>> commands = new ArrayList<>();
@@ -1042,7 +1133,7 @@ public final class AnnotationParser<C> {
         commands.add(builtCommand);
 
         if (method.isAnnotationPresent(ProxiedBy.class)) {
-            manager.command(this.constructProxy(method.getAnnotation(ProxiedBy.class), builtCommand));
+            proxies.add(this.constructProxy(method.getAnnotation(ProxiedBy.class), builtCommand));
         }
 
         return commands;
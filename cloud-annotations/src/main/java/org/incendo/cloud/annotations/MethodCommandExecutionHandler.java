@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
@@ -119,11 +120,12 @@ public class MethodCommandExecutionHandler<C> extends AnnotatedMethodHandler<C>
             }
 
             final CommandComponent<C> commandComponent = this.context.commandComponents.get(argumentName);
+            final Optional<Object> value = context.optional(commandComponent);
             if (commandComponent.required()) {
-                return ParameterValue.of(parameter, context.get(argumentName), argumentDescriptor);
+                return ParameterValue.of(parameter, value.orElseGet(() -> context.get(argumentName)), argumentDescriptor);
             }
 
-            final Object optional = context.optional(argumentName).orElse(null);
+            final Object optional = value.orElse(null);
             return ParameterValue.of(parameter, optional, argumentDescriptor);
         }
 
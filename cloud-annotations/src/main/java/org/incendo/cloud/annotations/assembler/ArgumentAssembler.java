@@ -25,6 +25,7 @@ package org.incendo.cloud.annotations.assembler;
 
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.annotations.AnnotationParser;
 import org.incendo.cloud.annotations.SyntaxFragment;
 import org.incendo.cloud.annotations.descriptor.ArgumentDescriptor;
 import org.incendo.cloud.component.CommandComponent;
@@ -37,6 +38,23 @@ import org.incendo.cloud.component.CommandComponent;
 @API(status = API.Status.STABLE)
 public interface ArgumentAssembler<C> {
 
+    /**
+     * Returns an argument assembler that shares parsers and components between identical argument definitions.
+     * <p>
+     * Parsers are shared when the parameter type (or parser name) and the {@link org.incendo.cloud.parser.ParserParameters}
+     * match. Components are shared when they additionally agree on name, suggestions, description, default value and
+     * preprocessor annotations. This reduces the memory footprint of large command sets, but requires the registered
+     * parser suppliers to produce parsers that are safe to share between commands.
+     *
+     * @param <C>              the command sender type
+     * @param annotationParser annotation parser instance
+     * @return the interning assembler
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> @NonNull ArgumentAssembler<C> interning(final @NonNull AnnotationParser<C> annotationParser) {
+        return new ArgumentAssemblerImpl<>(annotationParser, true);
+    }
+
     /**
      * Assembles a command component from the given {@code descriptor}.
      *
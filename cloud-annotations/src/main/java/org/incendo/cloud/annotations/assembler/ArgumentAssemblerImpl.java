@@ -27,13 +27,18 @@ import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.annotation.specifier.Completions;
 import org.incendo.cloud.annotations.AnnotationParser;
 import org.incendo.cloud.annotations.ArgumentMode;
@@ -41,7 +46,9 @@ import org.incendo.cloud.annotations.PreprocessorMapper;
 import org.incendo.cloud.annotations.SyntaxFragment;
 import org.incendo.cloud.annotations.descriptor.ArgumentDescriptor;
 import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.component.DefaultValue;
 import org.incendo.cloud.component.preprocessor.ComponentPreprocessor;
+import org.incendo.cloud.description.Description;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.parser.ParserParameters;
@@ -54,7 +61,10 @@ import org.incendo.cloud.type.Either;
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.annotations.*")
 public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
 
+    private final Map<ParserKey, ArgumentParser<C, ?>> parsers = new ConcurrentHashMap<>();
+    private final Map<ComponentKey, CommandComponent<C>> components = new ConcurrentHashMap<>();
     private final AnnotationParser<C> annotationParser;
+    private final boolean interning;
 
     /**
      * Creates a new argument assembler.
@@ -62,7 +72,18 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
      * @param annotationParser annotation parser instance
      */
     public ArgumentAssemblerImpl(final @NonNull AnnotationParser<C> annotationParser) {
+        this(annotationParser, false);
+    }
+
+    /**
+     * Creates a new argument assembler.
+     *
+     * @param annotationParser annotation parser instance
+     * @param interning        whether parsers and components should be shared between identical argument definitions
+     */
+    public ArgumentAssemblerImpl(final @NonNull AnnotationParser<C> annotationParser, final boolean interning) {
         this.annotationParser = annotationParser;
+        this.interning = interning;
     }
 
     @Override
@@ -75,8 +96,101 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
         final TypeToken<?> token = TypeToken.get(parameter.getParameterizedType());
         final ParserParameters parameters = this.annotationParser.manager().parserRegistry()
                 .parseAnnotations(token, annotations);
+        final String parserName = descriptor.parserName() == null
+                ? null
+                : this.annotationParser.processString(descriptor.parserName());
         /* Create the argument parser */
         final ArgumentParser<C, ?> parser;
+        if (this.interning) {
+            final ParserKey key = new ParserKey(token, parserName, parameters);
+            final ArgumentParser<C, ?> cached = this.parsers.get(key);
+            if (cached == null) {
+                final ArgumentParser<C, ?> created = this.createParser(parameter, token, parserName, parameters);
+                final ArgumentParser<C, ?> existing = this.parsers.putIfAbsent(key, created);
+                parser = existing == null ? created : existing;
+            } else {
+                parser = cached;
+            }
+        } else {
+            parser = this.createParser(parameter, token, parserName, parameters);
+        }
+        /* Check whether the corresponding method parameter actually exists */
+        final String argumentName = this.annotationParser.processString(descriptor.name());
+        if (syntaxFragment.argumentMode() == ArgumentMode.LITERAL) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid command argument '%s': Missing syntax mapping", argumentName));
+        }
+
+        /* Check for Completions annotation */
+        final Completions completions = parameter.getDeclaredAnnotation(Completions.class);
+        final SuggestionProvider<C> suggestionProvider;
+        if (completions != null) {
+            suggestionProvider = null;
+        } else if (descriptor.suggestions() != null) {
+            final String suggestionProviderName = this.annotationParser.processString(descriptor.suggestions());
+            final Optional<SuggestionProvider<C>> suggestionsFunction =
+                    this.annotationParser.manager().parserRegistry().getSuggestionProvider(suggestionProviderName);
+            suggestionProvider = suggestionsFunction.orElseThrow(() ->
+                    new IllegalArgumentException(String.format(
+                            "There is no suggestion provider with name '%s'. Did you forget to register it?",
+                            suggestionProviderName
+                    )));
+        } else {
+            suggestionProvider = null;
+        }
+
+        final List<Annotation> preprocessorAnnotations = new ArrayList<>();
+        for (final Annotation annotation : annotations) {
+            if (this.annotationParser.preprocessorMappers().containsKey(annotation.annotationType())) {
+                preprocessorAnnotations.add(annotation);
+            }
+        }
+
+        if (!this.interning) {
+            return this.createComponent(
+                    syntaxFragment,
+                    descriptor,
+                    argumentName,
+                    parser,
+                    completions,
+                    suggestionProvider,
+                    preprocessorAnnotations
+            );
+        }
+
+        final ComponentKey key = new ComponentKey(
+                argumentName,
+                parser,
+                parameter.getType(),
+                syntaxFragment.argumentMode(),
+                completions == null ? suggestionProvider : completions,
+                descriptor.description(),
+                syntaxFragment.argumentMode() == ArgumentMode.OPTIONAL ? descriptor.defaultValue() : null,
+                preprocessorAnnotations
+        );
+        final CommandComponent<C> cached = this.components.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final CommandComponent<C> created = this.createComponent(
+                syntaxFragment,
+                descriptor,
+                argumentName,
+                parser,
+                completions,
+                suggestionProvider,
+                preprocessorAnnotations
+        );
+        final CommandComponent<C> existing = this.components.putIfAbsent(key, created);
+        return existing == null ? created : existing;
+    }
+
+    private @NonNull ArgumentParser<C, ?> createParser(
+            final @NonNull Parameter parameter,
+            final @NonNull TypeToken<?> token,
+            final @Nullable String parserName,
+            final @NonNull ParserParameters parameters
+    ) {
         if (GenericTypeReflector.isSuperType(Either.class, token.getType())) {
             final TypeToken<?> primaryType = TypeToken.get(GenericTypeReflector.getTypeParameter(
                     parameter.getParameterizedType(),
@@ -110,9 +224,9 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
                                     parameter.getName(),
                                     token.getType().getTypeName()
                             )));
-            parser = EitherParser.eitherParser(primary, fallback).parser();
-        } else if (descriptor.parserName() == null) {
-            parser = this.annotationParser.manager().parserRegistry()
+            return EitherParser.eitherParser(primary, fallback).parser();
+        } else if (parserName == null) {
+            return this.annotationParser.manager().parserRegistry()
                     .createParser(token, parameters)
                     .orElseThrow(() -> new IllegalArgumentException(
                             String.format(
@@ -123,8 +237,8 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
                                     token.getType().getTypeName()
                             )));
         } else {
-            parser = this.annotationParser.manager().parserRegistry()
-                    .createParser(this.annotationParser.processString(descriptor.parserName()), parameters)
+            return this.annotationParser.manager().parserRegistry()
+                    .createParser(parserName, parameters)
                     .orElseThrow(() -> new IllegalArgumentException(
                             String.format(
                                     "Parameter '%s' "
@@ -134,38 +248,32 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
                                     token.getType().getTypeName()
                             )));
         }
-        /* Check whether the corresponding method parameter actually exists */
-        final String argumentName = this.annotationParser.processString(descriptor.name());
-        if (syntaxFragment.argumentMode() == ArgumentMode.LITERAL) {
-            throw new IllegalArgumentException(String.format(
-                    "Invalid command argument '%s': Missing syntax mapping", argumentName));
-        }
+    }
 
-        @SuppressWarnings("rawtypes") final CommandComponent.Builder componentBuilder = CommandComponent.builder();
+    @SuppressWarnings("rawtypes")
+    private @NonNull CommandComponent<C> createComponent(
+            final @NonNull SyntaxFragment syntaxFragment,
+            final @NonNull ArgumentDescriptor descriptor,
+            final @NonNull String argumentName,
+            final @NonNull ArgumentParser<C, ?> parser,
+            final @Nullable Completions completions,
+            final @Nullable SuggestionProvider<C> suggestionProvider,
+            final @NonNull List<@NonNull Annotation> preprocessorAnnotations
+    ) {
+        final CommandComponent.Builder componentBuilder = CommandComponent.builder();
         componentBuilder.commandManager(this.annotationParser.manager())
-                .valueType(parameter.getType())
+                .valueType(descriptor.parameter().getType())
                 .name(argumentName)
                 .parser(parser)
                 .required(syntaxFragment.argumentMode() == ArgumentMode.REQUIRED);
 
-        /* Check for Completions annotation */
-        final Completions completions = parameter.getDeclaredAnnotation(Completions.class);
         if (completions != null) {
             final List<Suggestion> suggestions = Arrays.stream(
                     completions.value().replace(" ", "").split(",")
             ).map(Suggestion::suggestion).collect(Collectors.toList());
             componentBuilder.suggestionProvider(SuggestionProvider.suggesting(suggestions));
-        } else if (descriptor.suggestions() != null) {
-            final String suggestionProviderName = this.annotationParser.processString(descriptor.suggestions());
-            final Optional<SuggestionProvider<C>> suggestionsFunction =
-                    this.annotationParser.manager().parserRegistry().getSuggestionProvider(suggestionProviderName);
-            componentBuilder.suggestionProvider(
-                    suggestionsFunction.orElseThrow(() ->
-                            new IllegalArgumentException(String.format(
-                                    "There is no suggestion provider with name '%s'. Did you forget to register it?",
-                                    suggestionProviderName
-                            )))
-            );
+        } else if (suggestionProvider != null) {
+            componentBuilder.suggestionProvider(suggestionProvider);
         }
 
         if (descriptor.description() != null) {
@@ -176,17 +284,119 @@ public final class ArgumentAssemblerImpl<C> implements ArgumentAssembler<C> {
             componentBuilder.defaultValue(descriptor.defaultValue());
         }
 
-        for (final Annotation annotation : annotations) {
-            @SuppressWarnings("rawtypes") final PreprocessorMapper preprocessorMapper =
+        for (final Annotation annotation : preprocessorAnnotations) {
+            final PreprocessorMapper preprocessorMapper =
                     this.annotationParser.preprocessorMappers().get(annotation.annotationType());
-            if (preprocessorMapper != null) {
-                final ComponentPreprocessor<C> preprocessor = (ComponentPreprocessor<C>) preprocessorMapper.mapAnnotation(
-                        annotation
-                );
-                componentBuilder.preprocessor(preprocessor);
-            }
+            final ComponentPreprocessor<C> preprocessor = (ComponentPreprocessor<C>) preprocessorMapper.mapAnnotation(
+                    annotation
+            );
+            componentBuilder.preprocessor(preprocessor);
         }
 
         return componentBuilder.build();
     }
+
+
+    private static final class ParserKey {
+
+        private final TypeToken<?> type;
+        private final String parserName;
+        private final ParserParameters parameters;
+
+        private ParserKey(
+                final @NonNull TypeToken<?> type,
+                final @Nullable String parserName,
+                final @NonNull ParserParameters parameters
+        ) {
+            this.type = type;
+            this.parserName = parserName;
+            this.parameters = ParserParameters.empty();
+            this.parameters.merge(parameters);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final ParserKey that = (ParserKey) object;
+            return this.type.equals(that.type)
+                    && Objects.equals(this.parserName, that.parserName)
+                    && this.parameters.equals(that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.parserName, this.parameters);
+        }
+    }
+
+
+    private static final class ComponentKey {
+
+        private final String name;
+        private final ArgumentParser<?, ?> parser;
+        private final Class<?> valueType;
+        private final ArgumentMode argumentMode;
+        private final Object suggestions;
+        private final Description description;
+        private final DefaultValue<?, ?> defaultValue;
+        private final List<Annotation> preprocessors;
+
+        private ComponentKey(
+                final @NonNull String name,
+                final @NonNull ArgumentParser<?, ?> parser,
+                final @NonNull Class<?> valueType,
+                final @NonNull ArgumentMode argumentMode,
+                final @Nullable Object suggestions,
+                final @Nullable Description description,
+                final @Nullable DefaultValue<?, ?> defaultValue,
+                final @NonNull List<@NonNull Annotation> preprocessors
+        ) {
+            this.name = name;
+            this.parser = parser;
+            this.valueType = valueType;
+            this.argumentMode = argumentMode;
+            this.suggestions = suggestions;
+            this.description = description;
+            this.defaultValue = defaultValue;
+            this.preprocessors = preprocessors;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final ComponentKey that = (ComponentKey) object;
+            return this.name.equals(that.name)
+                    && this.parser == that.parser
+                    && this.valueType.equals(that.valueType)
+                    && this.argumentMode == that.argumentMode
+                    && Objects.equals(this.suggestions, that.suggestions)
+                    && Objects.equals(this.description, that.description)
+                    && Objects.equals(this.defaultValue, that.defaultValue)
+                    && this.preprocessors.equals(that.preprocessors);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    this.name,
+                    System.identityHashCode(this.parser),
+                    this.valueType,
+                    this.argumentMode,
+                    this.suggestions,
+                    this.description,
+                    this.defaultValue,
+                    this.preprocessors
+            );
+        }
+    }
 }
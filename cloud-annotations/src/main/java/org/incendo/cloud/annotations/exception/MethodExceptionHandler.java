@@ -24,13 +24,12 @@
 package org.incendo.cloud.annotations.exception;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.annotations.method.AnnotatedMethodHandler;
-import org.incendo.cloud.annotations.method.ParameterValue;
 import org.incendo.cloud.exception.handling.ExceptionContext;
 import org.incendo.cloud.exception.handling.ExceptionHandler;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
@@ -43,6 +42,8 @@ import org.incendo.cloud.injection.ParameterInjectorRegistry;
 @API(status = API.Status.STABLE)
 public final class MethodExceptionHandler<C> extends AnnotatedMethodHandler<C> implements ExceptionHandler<C, Throwable> {
 
+    private final ParameterResolver<C>[] resolvers;
+
     /**
      * Creates a new handler.
      *
@@ -50,21 +51,61 @@ public final class MethodExceptionHandler<C> extends AnnotatedMethodHandler<C> i
      * @param method           method
      * @param injectorRegistry injector registry
      */
+    @SuppressWarnings("unchecked")
     public MethodExceptionHandler(
             final @NonNull Object instance,
             final @NonNull Method method,
             final @NonNull ParameterInjectorRegistry<C> injectorRegistry
     ) {
         super(method, instance, injectorRegistry);
+        final Parameter[] parameters = this.parameters();
+        this.resolvers = new ParameterResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            this.resolvers[i] = this.createResolver(parameters[i]);
+        }
     }
 
     @Override
     public void handle(final @NonNull ExceptionContext<C, Throwable> context) throws Throwable {
-        final List<Object> arguments = this.createParameterValues(
+        final Object[] arguments = new Object[this.resolvers.length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = this.resolvers[i].resolve(context);
+        }
+        final Object unused = (Object) this.spreadMethodHandle().invokeExact(arguments);
+    }
+
+    private @NonNull ParameterResolver<C> createResolver(final @NonNull Parameter parameter) {
+        final Class<?> type = parameter.getType();
+        if (type == ExceptionContext.class) {
+            return context -> context;
+        }
+        final Parameter[] single = new Parameter[] {parameter};
+        final ParameterResolver<C> fallback = context -> this.createParameterValues(
                 context.context(),
-                this.parameters(),
+                single,
                 Arrays.asList(context, context.exception())
-        ).stream().map(ParameterValue::value).collect(Collectors.toList());
-        this.methodHandle().invokeWithArguments(arguments);
+        ).get(0).value();
+        if (Throwable.class.isAssignableFrom(type)) {
+            return context -> type.isInstance(context.exception()) ? context.exception() : fallback.resolve(context);
+        }
+        return context -> {
+            if (type.isInstance(context)) {
+                return context;
+            } else if (type.isInstance(context.exception())) {
+                return context.exception();
+            }
+            final C sender = context.context().sender();
+            if (type.isInstance(sender)) {
+                return sender;
+            }
+            return fallback.resolve(context);
+        };
+    }
+
+
+    @FunctionalInterface
+    private interface ParameterResolver<C> {
+
+        @Nullable Object resolve(@NonNull ExceptionContext<C, Throwable> context);
     }
 }
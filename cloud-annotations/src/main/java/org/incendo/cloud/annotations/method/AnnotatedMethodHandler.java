@@ -50,6 +50,7 @@ public abstract class AnnotatedMethodHandler<C> {
 
     private final Parameter[] parameters;
     private final MethodHandle methodHandle;
+    private final MethodHandle spreadMethodHandle;
     private final AnnotationAccessor annotationAccessor;
     private final ParameterInjectorRegistry<C> injectorRegistry;
 
@@ -64,6 +65,8 @@ public abstract class AnnotatedMethodHandler<C> {
                 method.setAccessible(true);
             }
             this.methodHandle = MethodHandles.lookup().unreflect(method).bindTo(instance);
+            this.spreadMethodHandle = this.methodHandle.asType(this.methodHandle.type().generic())
+                    .asSpreader(Object[].class, this.parameters.length);
             this.annotationAccessor = AnnotationAccessor.of(method);
             this.injectorRegistry = injectorRegistry;
         } catch (final Exception exception) {
@@ -89,6 +92,18 @@ public abstract class AnnotatedMethodHandler<C> {
         return this.methodHandle;
     }
 
+    /**
+     * Returns the method handle adapted to accept the arguments as an {@code Object[]} and to return an {@link Object}.
+     * <p>
+     * The handle can be invoked using {@code (Object) handle.invokeExact(arguments)}, which avoids the argument
+     * conversions performed by {@link MethodHandle#invokeWithArguments(java.util.List)}.
+     *
+     * @return the spread method handle
+     */
+    public @NonNull MethodHandle spreadMethodHandle() {
+        return this.spreadMethodHandle;
+    }
+
     /**
      * Returns the annotation accessor.
      *
@@ -0,0 +1,108 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.annotations.string;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@link StringProcessor} that memoizes the results of another string processor.
+ * <p>
+ * Each distinct input string is {@link StringProcessor#compile(String) compiled} into a {@link Template} once, and the
+ * rendered result is cached. The delegating processor should therefore produce the same result for the same input, until
+ * the cache is invalidated. If the values that the delegate depends on change, such as when the property source of a
+ * {@link PropertyReplacingStringProcessor} is reloaded, {@link #invalidate()} should be invoked. The compiled templates
+ * are kept during invalidation, and will be re-rendered the next time the input is processed.
+ */
+public final class MemoizingStringProcessor implements StringProcessor {
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> results = new ConcurrentHashMap<>();
+    private final StringProcessor processor;
+
+    MemoizingStringProcessor(final @NonNull StringProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * Returns the processor whose results are memoized.
+     *
+     * @return the processor
+     */
+    public @NonNull StringProcessor processor() {
+        return this.processor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull String processString(final @NonNull String input) {
+        final String cached = this.results.get(input);
+        if (cached != null) {
+            return cached;
+        }
+        // Rendering inside computeIfAbsent makes a concurrent invalidation wait for it, so a stale result can't be stored
+        return this.results.computeIfAbsent(input, key -> this.compile(key).render());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Template compile(final @NonNull String input) {
+        final Template cached = this.templates.get(input);
+        if (cached != null) {
+            return cached;
+        }
+        return this.templates.computeIfAbsent(input, this.processor::compile);
+    }
+
+    /**
+     * Invalidates all the memoized results. The compiled templates are retained.
+     */
+    public void invalidate() {
+        this.results.clear();
+    }
+
+    /**
+     * Invalidates the memoized result for the given {@code input}.
+     *
+     * @param input the input string
+     */
+    public void invalidate(final @NonNull String input) {
+        this.results.remove(input);
+    }
+
+    /**
+     * Invalidates all the memoized results and compiled templates.
+     * <p>
+     * This should be used if the structure of the processed strings may change, rather than just the replacement values.
+     */
+    public void clear() {
+        this.templates.clear();
+        this.results.clear();
+    }
+}
@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.annotations.string;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
@@ -72,4 +74,52 @@ public class PatternReplacingStringProcessor implements StringProcessor {
 
         return stringBuffer.toString();
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The pattern is only evaluated once. Rendering the template invokes the replacement provider for each of the
+     * matches that were found when the template was compiled.
+     */
+    @Override
+    public @NonNull Template compile(final @NonNull String input) {
+        final Matcher matcher = this.pattern.matcher(input);
+        if (!matcher.find()) {
+            return () -> input;
+        }
+        final List<MatchResult> matches = new ArrayList<>();
+        do {
+            matches.add(matcher.toMatchResult());
+        } while (matcher.find());
+        return new CompiledTemplate(input, matches.toArray(new MatchResult[0]));
+    }
+
+
+    private final class CompiledTemplate implements Template {
+
+        private final String input;
+        private final MatchResult[] matches;
+
+        private CompiledTemplate(final @NonNull String input, final @NonNull MatchResult @NonNull[] matches) {
+            this.input = input;
+            this.matches = matches;
+        }
+
+        @Override
+        public @NonNull String render() {
+            final StringBuilder builder = new StringBuilder(this.input.length());
+            int position = 0;
+            for (final MatchResult match : this.matches) {
+                final String replacement = PatternReplacingStringProcessor.this.replacementProvider.apply(match);
+                if (replacement != null && (replacement.indexOf('$') != -1 || replacement.indexOf('\\') != -1)) {
+                    // The replacement contains group references or escapes, which we leave to the matcher.
+                    return PatternReplacingStringProcessor.this.processString(this.input);
+                }
+                builder.append(this.input, position, match.start())
+                        .append(replacement == null ? match.group() : replacement);
+                position = match.end();
+            }
+            return builder.append(this.input, position, this.input.length()).toString();
+        }
+    }
 }
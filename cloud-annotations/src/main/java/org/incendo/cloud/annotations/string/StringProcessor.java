@@ -41,6 +41,19 @@ public interface StringProcessor {
         return new NoOpStringProcessor();
     }
 
+    /**
+     * Returns a string processor that memoizes the results of the given {@code processor}.
+     * <p>
+     * Each distinct input is {@link #compile(String) compiled} once and the rendered result is cached until the cache is
+     * {@link MemoizingStringProcessor#invalidate() invalidated}.
+     *
+     * @param processor the processor to memoize
+     * @return the memoizing string processor
+     */
+    static @NonNull MemoizingStringProcessor memoizing(final @NonNull StringProcessor processor) {
+        return new MemoizingStringProcessor(processor);
+    }
+
     /**
      * Processes the {@code input} string and returns the processed result.
      * <p>
@@ -53,6 +66,35 @@ public interface StringProcessor {
      */
     @NonNull String processString(@NonNull String input);
 
+    /**
+     * Compiles the {@code input} string into a {@link Template} that produces the same result as
+     * {@link #processString(String)} when {@link Template#render() rendered}.
+     * <p>
+     * Implementations may override this to perform the input-dependent work once, such as locating placeholders,
+     * so that rendering the template only has to resolve the replacements.
+     *
+     * @param input the input string
+     * @return the compiled template
+     */
+    default @NonNull Template compile(final @NonNull String input) {
+        return () -> this.processString(input);
+    }
+
+
+    /**
+     * A pre-compiled input string.
+     */
+    @FunctionalInterface
+    interface Template {
+
+        /**
+         * Renders the template and returns the processed string.
+         *
+         * @return the processed string
+         */
+        @NonNull String render();
+    }
+
 
     final class NoOpStringProcessor implements StringProcessor {
 
@@ -60,5 +102,10 @@ public interface StringProcessor {
         public @NonNull String processString(final @NonNull String input) {
             return input;
         }
+
+        @Override
+        public @NonNull Template compile(final @NonNull String input) {
+            return () -> input;
+        }
     }
 }
@@ -0,0 +1,69 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.annotations.suggestion;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.suggestion.CachedSuggestionProvider;
+
+/**
+ * Caches the results of a {@link Suggestions} method for a limited amount of time.
+ *
+ * <p>The results are cached per command sender instance and {@link CommandInput#remainingInput() remaining input}, so
+ * this should only be used for methods whose suggestions depend on nothing else. Senders are compared by identity and
+ * are not kept alive by the cache. The results are cached by a {@link CachedSuggestionProvider}, which describes how
+ * requests are shared and how entries are evicted.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@API(status = API.Status.EXPERIMENTAL)
+public @interface MemoizedSuggestions {
+
+    /**
+     * Returns how long the suggestions are cached for, in the {@link #unit()}.
+     *
+     * @return the time to live
+     */
+    long ttl();
+
+    /**
+     * Returns the unit of the {@link #ttl()}.
+     *
+     * @return the time unit
+     */
+    @NonNull TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * Returns the maximum number of cached entries.
+     *
+     * @return the maximum size
+     */
+    int maxSize() default 1024;
+}
@@ -23,31 +23,48 @@
 //
 package org.incendo.cloud.annotations.suggestion;
 
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.annotations.method.AnnotatedMethodHandler;
 import org.incendo.cloud.annotations.method.ParameterValue;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
+import org.incendo.cloud.suggestion.CachedSuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 
 /**
  * Represents a method annotated with {@link Suggestions}
+ * <p>
+ * The parameter resolution and the mapping of the return type are determined once when the provider is created, so that
+ * resolving suggestions only needs to invoke the method and adapt the result. If the method is annotated with
+ * {@link MemoizedSuggestions} the results are cached per sender instance and input, using a {@link CachedSuggestionProvider}.
  *
  * @param <C> command sender type
  */
 public final class MethodSuggestionProvider<C> extends AnnotatedMethodHandler<C> implements SuggestionProvider<C> {
 
+    private final ParameterResolver<C>[] resolvers;
+    private final Function<Object, CompletableFuture<Iterable<@NonNull Suggestion>>> resultMapper;
+    private final @Nullable CachedSuggestionProvider<C> cache;
+
     /**
      * Creates a new provider.
      *
@@ -55,29 +72,155 @@ public final class MethodSuggestionProvider<C> extends AnnotatedMethodHandler<C>
      * @param method           the annotated method
      * @param injectorRegistry injector registry
      */
+    @SuppressWarnings("unchecked")
     public MethodSuggestionProvider(
             final @NonNull Object instance,
             final @NonNull Method method,
             final @NonNull ParameterInjectorRegistry<C> injectorRegistry
     ) {
         super(method, instance, injectorRegistry);
+        final Parameter[] parameters = this.parameters();
+        this.resolvers = new ParameterResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            this.resolvers[i] = this.createResolver(parameters[i]);
+        }
+        this.resultMapper = createResultMapper(method.getGenericReturnType());
+
+        final MemoizedSuggestions memoized = method.getAnnotation(MemoizedSuggestions.class);
+        if (memoized == null) {
+            this.cache = null;
+        } else {
+            this.cache = SuggestionProvider.cached(
+                    this::invoke,
+                    (context, input) -> new CacheKey(context.sender(), input.remainingInput()),
+                    Duration.ofNanos(memoized.unit().toNanos(memoized.ttl())),
+                    memoized.maxSize()
+            );
+        }
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public @NonNull CompletableFuture<Iterable<@NonNull Suggestion>> suggestionsFuture(
             final @NonNull CommandContext<C> context,
             final @NonNull CommandInput input
+    ) {
+        if (this.cache == null) {
+            return this.invoke(context, input);
+        }
+        // The cache completes the futures with unmodifiable lists of suggestions
+        return (CompletableFuture<Iterable<@NonNull Suggestion>>) this.cache.suggestionsFuture(context, input);
+    }
+
+    private @NonNull CompletableFuture<Iterable<@NonNull Suggestion>> invoke(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
     ) {
         try {
-            final List<Object> arguments = this.createParameterValues(
-                    context, this.parameters(), Arrays.asList(context, input, input.lastRemainingToken())
-            ).stream().map(ParameterValue::value).collect(Collectors.toList());
-            return mapSuggestions(this.methodHandle().invokeWithArguments(arguments));
+            final Object[] arguments = new Object[this.resolvers.length];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = this.resolvers[i].resolve(context, input);
+            }
+            return this.resultMapper.apply((Object) this.spreadMethodHandle().invokeExact(arguments));
         } catch (final Throwable t) {
             throw new RuntimeException(t);
         }
     }
 
+    private @NonNull ParameterResolver<C> createResolver(final @NonNull Parameter parameter) {
+        final Class<?> type = parameter.getType();
+        if (type == CommandContext.class) {
+            return (context, input) -> context;
+        } else if (type == CommandInput.class) {
+            return (context, input) -> input;
+        } else if (type == String.class) {
+            return (context, input) -> input.lastRemainingToken();
+        }
+        final Parameter[] single = new Parameter[] {parameter};
+        return (context, input) -> {
+            if (!type.isInstance(context) && !type.isInstance(input) && type.isInstance(context.sender())) {
+                return context.sender();
+            }
+            return this.createParameterValues(
+                    context,
+                    single,
+                    Arrays.asList(context, input, input.lastRemainingToken())
+            ).get(0).value();
+        };
+    }
+
+    private static @NonNull Function<Object, CompletableFuture<Iterable<@NonNull Suggestion>>> createResultMapper(
+            final @NonNull Type returnType
+    ) {
+        if (GenericTypeReflector.erase(returnType) == CompletableFuture.class) {
+            final Function<Object, Iterable<@NonNull Suggestion>> mapper = createCompletedMapper(
+                    GenericTypeReflector.getTypeParameter(returnType, CompletableFuture.class.getTypeParameters()[0])
+            );
+            if (mapper == null) {
+                return result -> ((CompletableFuture<?>) result).thenApply(MethodSuggestionProvider::mapCompleted);
+            }
+            return result -> ((CompletableFuture<?>) result).thenApply(mapper);
+        }
+        final Function<Object, Iterable<@NonNull Suggestion>> mapper = createCompletedMapper(returnType);
+        if (mapper == null) {
+            return MethodSuggestionProvider::mapSuggestions;
+        }
+        return result -> CompletableFuture.completedFuture(mapper.apply(result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @Nullable Function<Object, Iterable<@NonNull Suggestion>> createCompletedMapper(
+            final @Nullable Type type
+    ) {
+        if (!(type instanceof Class) && !(type instanceof ParameterizedType)) {
+            return null;
+        }
+        final Class<?> rawType = GenericTypeReflector.erase(type);
+        final boolean stream = Stream.class.isAssignableFrom(rawType);
+        final Type elementType;
+        if (stream) {
+            elementType = GenericTypeReflector.getTypeParameter(type, Stream.class.getTypeParameters()[0]);
+        } else if (Iterable.class.isAssignableFrom(rawType)) {
+            elementType = GenericTypeReflector.getTypeParameter(type, Iterable.class.getTypeParameters()[0]);
+        } else {
+            return null;
+        }
+        if (!(elementType instanceof Class)) {
+            return MethodSuggestionProvider::mapCompleted;
+        }
+
+        if (Suggestion.class.isAssignableFrom((Class<?>) elementType)) {
+            if (stream) {
+                return result -> ((Stream<Suggestion>) result).collect(Collectors.toList());
+            } else if (List.class.isAssignableFrom(rawType)) {
+                return result -> (List<Suggestion>) result;
+            } else if (Collection.class.isAssignableFrom(rawType)) {
+                return result -> new ArrayList<>((Collection<Suggestion>) result);
+            }
+            return result -> {
+                final List<Suggestion> suggestions = new ArrayList<>();
+                for (final Suggestion suggestion : (Iterable<Suggestion>) result) {
+                    suggestions.add(suggestion);
+                }
+                return suggestions;
+            };
+        } else if (elementType == String.class) {
+            if (stream) {
+                return result -> ((Stream<String>) result).map(Suggestion::suggestion).collect(Collectors.toList());
+            }
+            return result -> {
+                final List<Suggestion> suggestions = result instanceof Collection
+                        ? new ArrayList<>(((Collection<?>) result).size())
+                        : new ArrayList<>();
+                for (final String suggestion : (Iterable<String>) result) {
+                    suggestions.add(Suggestion.suggestion(suggestion));
+                }
+                return suggestions;
+            };
+        }
+        return MethodSuggestionProvider::mapCompleted;
+    }
+
     /**
      * Maps the suggestions to a future of a list of suggestions.
      *
@@ -146,4 +289,48 @@ public final class MethodSuggestionProvider<C> extends AnnotatedMethodHandler<C>
             );
         }
     }
+
+
+    @FunctionalInterface
+    private interface ParameterResolver<C> {
+
+        @Nullable Object resolve(@NonNull CommandContext<C> context, @NonNull CommandInput input);
+    }
+
+
+    /**
+     * Identifies a cached result by the sender instance and the input. The sender is only weakly referenced, so that the
+     * cache does not keep senders alive. Entries of collected senders are never matched again, and are evicted once they
+     * expire.
+     */
+    private static final class CacheKey {
+
+        private final WeakReference<Object> sender;
+        private final int senderHash;
+        private final String input;
+
+        private CacheKey(final @NonNull Object sender, final @NonNull String input) {
+            this.sender = new WeakReference<>(sender);
+            this.senderHash = System.identityHashCode(sender);
+            this.input = input;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) object;
+            final Object sender = this.sender.get();
+            return sender != null && sender == that.sender.get() && this.input.equals(that.input);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.senderHash + this.input.hashCode();
+        }
+    }
 }
@@ -0,0 +1,112 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.annotations;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.incendo.cloud.annotations.string.MemoizingStringProcessor;
+import org.incendo.cloud.annotations.string.PropertyReplacingStringProcessor;
+import org.incendo.cloud.annotations.string.StringProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class MemoizingStringProcessorTest {
+
+    private final Map<String, String> properties = new HashMap<>();
+    private final Map<String, Integer> lookups = new HashMap<>();
+
+    private MemoizingStringProcessor memoizingStringProcessor;
+
+    @BeforeEach
+    void setup() {
+        this.memoizingStringProcessor = StringProcessor.memoizing(new PropertyReplacingStringProcessor(property -> {
+            this.lookups.merge(property, 1, Integer::sum);
+            return this.properties.get(property);
+        }));
+    }
+
+    @Test
+    void ProcessString_RepeatedInput_ResolvedOnce() {
+        // Arrange
+        this.properties.put("cats", "cats");
+        this.properties.put("dogs", "dogs");
+
+        final String input = "${cats} are cute, and so are ${dogs}!";
+
+        // Act
+        final String first = this.memoizingStringProcessor.processString(input);
+        final String second = this.memoizingStringProcessor.processString(input);
+
+        // Assert
+        assertThat(first).isEqualTo("cats are cute, and so are dogs!");
+        assertThat(second).isEqualTo(first);
+        assertThat(this.lookups).containsExactly("cats", 1, "dogs", 1);
+    }
+
+    @Test
+    void ProcessString_Invalidated_ReRendersWithNewValues() {
+        // Arrange
+        this.properties.put("permission", "old.permission");
+        final String input = "${permission}.use";
+        this.memoizingStringProcessor.processString(input);
+
+        this.properties.put("permission", "new.permission");
+
+        // Act
+        final String stale = this.memoizingStringProcessor.processString(input);
+        this.memoizingStringProcessor.invalidate();
+        final String reloaded = this.memoizingStringProcessor.processString(input);
+
+        // Assert
+        assertThat(stale).isEqualTo("old.permission.use");
+        assertThat(reloaded).isEqualTo("new.permission.use");
+    }
+
+    @Test
+    void ProcessString_NullProperty_InputPreserved() {
+        // Arrange
+        final String input = "${input} ...";
+
+        // Act
+        final String output = this.memoizingStringProcessor.processString(input);
+
+        // Assert
+        assertThat(output).isEqualTo(input);
+    }
+
+    @Test
+    void ProcessString_ReplacementWithGroupReference_MatchesUncompiled() {
+        // Arrange
+        this.properties.put("reference", "$1!");
+        final String input = "${reference} text";
+
+        // Act
+        final String output = this.memoizingStringProcessor.processString(input);
+
+        // Assert
+        assertThat(output).isEqualTo(this.memoizingStringProcessor.processor().processString(input));
+    }
+}
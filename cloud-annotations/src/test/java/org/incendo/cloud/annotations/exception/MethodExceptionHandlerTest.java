@@ -85,6 +85,21 @@ class MethodExceptionHandlerTest {
         assertThat(context.<String>get("handled-by")).isEqualTo("throwable");
     }
 
+    @Test
+    void testResolvesParameters() throws Throwable {
+        // Arrange
+        this.annotationParser.parse(new ParameterTestClass());
+        final NoSuchCommandException exception = new NoSuchCommandException(this.context.sender(), Collections.emptyList(), "");
+
+        // Act
+        this.exceptionController.handleException(this.context, exception);
+
+        // Assert
+        assertThat(context.<NoSuchCommandException>get("exception")).isSameInstanceAs(exception);
+        assertThat(context.<TestCommandSender>get("sender")).isSameInstanceAs(this.context.sender());
+        assertThat(context.<Integer>get("injected")).isEqualTo(5);
+    }
+
     static class TestClass {
 
         @ExceptionHandler(NoSuchCommandException.class)
@@ -101,4 +116,19 @@ class MethodExceptionHandlerTest {
             context.set("handled-by", "throwable");
         }
     }
+
+    static class ParameterTestClass {
+
+        @ExceptionHandler(NoSuchCommandException.class)
+        public void noSuchCommandException(
+                final @NonNull NoSuchCommandException exception,
+                final @NonNull TestCommandSender sender,
+                final @NonNull CommandContext<TestCommandSender> context,
+                final @NonNull Integer injectedNumber
+        ) {
+            context.set("exception", exception);
+            context.set("sender", sender);
+            context.set("injected", injectedNumber);
+        }
+    }
 }
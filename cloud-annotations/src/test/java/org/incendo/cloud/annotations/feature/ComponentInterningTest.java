@@ -0,0 +1,136 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.annotations.feature;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.annotation.specifier.Range;
+import org.incendo.cloud.annotations.AnnotationParser;
+import org.incendo.cloud.annotations.Argument;
+import org.incendo.cloud.annotations.Command;
+import org.incendo.cloud.annotations.TestCommandManager;
+import org.incendo.cloud.annotations.TestCommandSender;
+import org.incendo.cloud.annotations.assembler.ArgumentAssembler;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.execution.CommandResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class ComponentInterningTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private AnnotationParser<TestCommandSender> annotationParser;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.annotationParser = new AnnotationParser<>(
+                this.commandManager,
+                TestCommandSender.class
+        );
+        this.annotationParser.argumentAssembler(ArgumentAssembler.interning(this.annotationParser));
+    }
+
+    @Test
+    void testIdenticalArgumentsAreShared() {
+        // Act
+        final List<org.incendo.cloud.Command<TestCommandSender>> commands =
+                new ArrayList<>(this.annotationParser.parse(new TestClass()));
+
+        // Assert
+        assertThat(commands).hasSize(3);
+        final CommandComponent<TestCommandSender> first = this.valueComponent(commands.get(0));
+        final CommandComponent<TestCommandSender> second = this.valueComponent(commands.get(1));
+        final CommandComponent<TestCommandSender> third = this.valueComponent(commands.get(2));
+        assertThat(first).isSameInstanceAs(second);
+        assertThat(first).isSameInstanceAs(third);
+
+        final CommandResult<?> result = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "b 5").join();
+        assertThat(result.commandContext().<Integer>get("value")).isEqualTo(5);
+    }
+
+    @Test
+    void testDifferentParserParametersAreNotShared() {
+        // Act
+        final List<org.incendo.cloud.Command<TestCommandSender>> commands =
+                new ArrayList<>(this.annotationParser.parse(new RangedClass()));
+
+        // Assert
+        assertThat(commands).hasSize(2);
+        final CommandComponent<TestCommandSender> first = this.valueComponent(commands.get(0));
+        final CommandComponent<TestCommandSender> second = this.valueComponent(commands.get(1));
+        assertThat(first).isNotSameInstanceAs(second);
+        assertThat(first.parser()).isNotSameInstanceAs(second.parser());
+    }
+
+    private @NonNull CommandComponent<TestCommandSender> valueComponent(
+            final org.incendo.cloud.@NonNull Command<TestCommandSender> command
+    ) {
+        return command.components().get(1);
+    }
+
+    static final class TestClass {
+
+        @Command("a <value>")
+        public void a(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+
+        @Command("b <value>")
+        public void b(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+
+        @Command("c <value>")
+        public void c(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+    }
+
+    static final class RangedClass {
+
+        @Command("a <value>")
+        public void a(@Argument("value") @Range(min = "0", max = "5") final int value) {
+        }
+
+        @Command("b <value>")
+        public void b(@Argument("value") @Range(min = "0", max = "10") final int value) {
+        }
+    }
+}
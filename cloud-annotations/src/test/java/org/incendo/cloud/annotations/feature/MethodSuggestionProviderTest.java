@@ -27,12 +27,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.annotations.AnnotationParser;
 import org.incendo.cloud.annotations.TestCommandManager;
 import org.incendo.cloud.annotations.TestCommandSender;
+import org.incendo.cloud.annotations.suggestion.MemoizedSuggestions;
 import org.incendo.cloud.annotations.suggestion.Suggestions;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandContextFactory;
@@ -40,7 +43,9 @@ import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.context.StandardCommandContextFactory;
 import org.incendo.cloud.injection.ParameterInjector;
 import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -89,6 +94,72 @@ class MethodSuggestionProviderTest {
         assertThat(suggestions).containsExactly(Suggestion.suggestion("foo"));
     }
 
+    @Test
+    void testMemoizedSuggestions() {
+        // Arrange
+        final TestClassMemoized instance = new TestClassMemoized();
+        this.annotationParser.parse(instance);
+        final CommandContext<TestCommandSender> context = this.commandContextFactory.create(
+                true,
+                new TestCommandSender()
+        );
+        final SuggestionProvider<TestCommandSender> provider = this.commandManager.parserRegistry()
+                .getSuggestionProvider("suggestions")
+                .orElseThrow(NullPointerException::new);
+
+        // Act
+        final Iterable<? extends Suggestion> first = provider.suggestionsFuture(context, CommandInput.of("f")).join();
+        final Iterable<? extends Suggestion> second = provider.suggestionsFuture(context, CommandInput.of("f")).join();
+        final Iterable<? extends Suggestion> third = provider.suggestionsFuture(context, CommandInput.of("fo")).join();
+
+        // Assert
+        assertThat(first).containsExactly(Suggestion.suggestion("f1"));
+        assertThat(second).containsExactly(Suggestion.suggestion("f1"));
+        assertThat(third).containsExactly(Suggestion.suggestion("fo2"));
+        assertThat(instance.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testMemoizedSuggestionsAreCachedPerSenderInstance() {
+        // Arrange
+        final TestClassMemoized instance = new TestClassMemoized();
+        this.annotationParser.parse(instance);
+        final SuggestionProvider<TestCommandSender> provider = this.commandManager.parserRegistry()
+                .getSuggestionProvider("suggestions")
+                .orElseThrow(NullPointerException::new);
+        final CommandContext<TestCommandSender> first = this.commandContextFactory.create(true, new TestCommandSender());
+        final CommandContext<TestCommandSender> second = this.commandContextFactory.create(true, new TestCommandSender());
+
+        // Act
+        provider.suggestionsFuture(first, CommandInput.of("f")).join();
+        provider.suggestionsFuture(second, CommandInput.of("f")).join();
+        provider.suggestionsFuture(first, CommandInput.of("f")).join();
+
+        // Assert
+        assertThat(instance.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testCancellingMemoizedSuggestionsDoesNotAffectCache() {
+        // Arrange
+        final TestClassMemoizedFuture instance = new TestClassMemoizedFuture();
+        this.annotationParser.parse(instance);
+        final SuggestionProvider<TestCommandSender> provider = this.commandManager.parserRegistry()
+                .getSuggestionProvider("suggestions")
+                .orElseThrow(NullPointerException::new);
+        final CommandContext<TestCommandSender> context = this.commandContextFactory.create(true, new TestCommandSender());
+
+        // Act
+        provider.suggestionsFuture(context, CommandInput.of("f")).cancel(false);
+        final CompletableFuture<? extends Iterable<? extends Suggestion>> second =
+                provider.suggestionsFuture(context, CommandInput.of("f"));
+        instance.result.complete(Collections.singletonList("foo"));
+
+        // Assert
+        assertThat(second.join()).containsExactly(Suggestion.suggestion("foo"));
+        assertThat(instance.invocations.get()).isEqualTo(1);
+    }
+
     static @NonNull Stream<@NonNull Object> testSuggestionsSource() {
         return Stream.of(
                 named("list source", new TestClassList()),
@@ -190,6 +261,36 @@ class MethodSuggestionProviderTest {
         }
     }
 
+    public static final class TestClassMemoized {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @MemoizedSuggestions(ttl = 1, unit = TimeUnit.MINUTES)
+        @Suggestions("suggestions")
+        public @NonNull List<@NonNull String> suggestions(
+                final @NonNull TestCommandSender sender,
+                final @NonNull String input
+        ) {
+            return Collections.singletonList(input + this.invocations.incrementAndGet());
+        }
+    }
+
+    public static final class TestClassMemoizedFuture {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final CompletableFuture<List<String>> result = new CompletableFuture<>();
+
+        @MemoizedSuggestions(ttl = 1, unit = TimeUnit.MINUTES)
+        @Suggestions("suggestions")
+        public @NonNull CompletableFuture<List<String>> suggestions(
+                final @NonNull TestCommandSender sender,
+                final @NonNull String input
+        ) {
+            this.invocations.incrementAndGet();
+            return this.result;
+        }
+    }
+
     public static class InjectedValue {
 
         private final String value;
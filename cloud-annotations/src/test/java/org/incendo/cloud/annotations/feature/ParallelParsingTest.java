@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.annotations.feature;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.annotations.AnnotationParser;
+import org.incendo.cloud.annotations.Argument;
+import org.incendo.cloud.annotations.Command;
+import org.incendo.cloud.annotations.ProxiedBy;
+import org.incendo.cloud.annotations.TestCommandManager;
+import org.incendo.cloud.annotations.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.execution.CommandResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ * Test that verifies that {@link AnnotationParser#parse(Collection, ForkJoinPool)} produces the same commands as the
+ * sequential parsing.
+ */
+class ParallelParsingTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private AnnotationParser<TestCommandSender> annotationParser;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.annotationParser = new AnnotationParser<>(
+                this.commandManager,
+                TestCommandSender.class
+        );
+        this.pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.pool.shutdownNow();
+    }
+
+    @Test
+    void testParallelParsing() {
+        // Act
+        final Collection<org.incendo.cloud.Command<TestCommandSender>> commands = this.annotationParser.parse(
+                Arrays.asList(new FirstClass(), new SecondClass()),
+                this.pool
+        );
+
+        // Assert
+        assertThat(commands).hasSize(3);
+        assertThat(this.commandManager.commands()).hasSize(4);
+        assertThat(this.commandManager.rootCommands()).containsExactly("first", "second", "proxy");
+
+        final CommandResult<?> result1 = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "first 5").join();
+        assertThat(result1.commandContext().<Integer>get("value")).isEqualTo(5);
+
+        final CommandResult<?> result2 = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "second sub 10").join();
+        assertThat(result2.commandContext().<Integer>get("value")).isEqualTo(10);
+
+        final CommandResult<?> result3 = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "proxy 15").join();
+        assertThat(result3.commandContext().<Integer>get("value")).isEqualTo(15);
+    }
+
+    static final class FirstClass {
+
+        @Command("first <value>")
+        public void first(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+    }
+
+    static final class SecondClass {
+
+        @Command("second sub <value>")
+        public void second(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+
+        @ProxiedBy("proxy")
+        @Command("second other <value>")
+        public void other(
+                final @NonNull CommandContext<TestCommandSender> context,
+                @Argument("value") final int value
+        ) {
+            context.set("value", value);
+        }
+    }
+}
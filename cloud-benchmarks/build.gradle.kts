@@ -0,0 +1,22 @@
+plugins {
+    id("cloud.base-conventions")
+}
+
+dependencies {
+    implementation(projects.cloudCore)
+    implementation(projects.cloudAnnotations)
+    implementation(libs.jmhCore)
+    annotationProcessor(libs.jmhGeneratorAnnprocess)
+}
+
+tasks {
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks with the GC profiler enabled"
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args("-prof", "gc", "-rf", "json", "-rff", layout.buildDirectory.file("jmh-result.json").get().asFile.path)
+        // Forward a benchmark filter, e.g. ./gradlew :cloud-benchmarks:jmh -Pjmh.includes=WideTree
+        providers.gradleProperty("jmh.includes").orNull?.let { args(it) }
+    }
+}
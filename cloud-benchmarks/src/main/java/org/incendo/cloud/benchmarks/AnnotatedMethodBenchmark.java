@@ -0,0 +1,197 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.annotations.AnnotationParser;
+import org.incendo.cloud.annotations.Argument;
+import org.incendo.cloud.annotations.Command;
+import org.incendo.cloud.annotations.exception.ExceptionHandler;
+import org.incendo.cloud.annotations.suggestion.Suggestions;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.CommandExecutionException;
+import org.incendo.cloud.injection.ParameterInjector;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the invocation of annotated command methods, suggestion providers and exception handlers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnnotatedMethodBenchmark {
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+
+    /**
+     * Parses the annotated commands and registers the injectors they depend on.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        this.manager.parameterInjectorRegistry()
+                .registerInjector(Integer.class, ParameterInjector.constantInjector(5))
+                .registerInjector(Service.class, ParameterInjector.constantInjector(new Service()));
+        this.manager.exceptionController().registerHandler(
+                CommandExecutionException.class,
+                org.incendo.cloud.exception.handling.ExceptionHandler.unwrappingHandler(BenchmarkException.class)
+        );
+
+        final AnnotationParser<BenchmarkSender> annotationParser = new AnnotationParser<>(this.manager, BenchmarkSender.class);
+        annotationParser.parse(new AnnotatedCommands());
+    }
+
+    /**
+     * Executes a method that only takes the sender and a parsed argument.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object plain() {
+        return this.manager.commandExecutor().executeCommand(this.sender, "annotated plain 10").join();
+    }
+
+    /**
+     * Executes a method that takes injected parameters in addition to the parsed argument.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object injected() {
+        return this.manager.commandExecutor().executeCommand(this.sender, "annotated injected 10").join();
+    }
+
+    /**
+     * Suggests values using an annotated suggestion provider.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public Object suggestions() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "annotated suggest ");
+    }
+
+    /**
+     * Executes a method that throws an exception which is handled by an annotated exception handler.
+     *
+     * @return the thrown exception
+     */
+    @Benchmark
+    public Object exceptionHandler() {
+        try {
+            return this.manager.commandExecutor().executeCommand(this.sender, "annotated fail").join();
+        } catch (final CompletionException exception) {
+            return exception;
+        }
+    }
+
+    static final class AnnotatedCommands {
+
+        private static final List<Suggestion> NAMES = Arrays.asList(
+                Suggestion.suggestion("alpha"),
+                Suggestion.suggestion("beta"),
+                Suggestion.suggestion("gamma")
+        );
+
+        @Command("annotated plain <value>")
+        public void plain(
+                final @NonNull BenchmarkSender sender,
+                @Argument("value") final int value
+        ) {
+        }
+
+        @Command("annotated injected <value>")
+        public void injected(
+                final @NonNull CommandContext<BenchmarkSender> context,
+                @Argument("value") final int value,
+                final @NonNull Integer injectedNumber,
+                final @NonNull Service service
+        ) {
+            service.accept(value + injectedNumber);
+        }
+
+        @Command("annotated suggest <name>")
+        public void suggest(@Argument(value = "name", suggestions = "names") final @NonNull String name) {
+        }
+
+        @Suggestions("names")
+        public @NonNull List<@NonNull Suggestion> names(
+                final @NonNull CommandContext<BenchmarkSender> context,
+                final @NonNull String input
+        ) {
+            return NAMES;
+        }
+
+        @Command("annotated fail")
+        public void fail() {
+            throw new BenchmarkException();
+        }
+
+        @ExceptionHandler(BenchmarkException.class)
+        public void handle(
+                final @NonNull BenchmarkException exception,
+                final @NonNull BenchmarkSender sender
+        ) {
+        }
+    }
+
+    static final class Service {
+
+        private int total;
+
+        void accept(final int value) {
+            this.total += value;
+        }
+    }
+
+    static final class BenchmarkException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        BenchmarkException() {
+            super(null, null, false, false);
+        }
+    }
+}
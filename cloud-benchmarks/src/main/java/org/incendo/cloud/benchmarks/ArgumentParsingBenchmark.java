@@ -0,0 +1,143 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.incendo.cloud.parser.standard.DurationParser.durationParser;
+import static org.incendo.cloud.parser.standard.EnumParser.enumParser;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.quotedStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+/**
+ * Benchmarks parsing and suggestions of the standard argument types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArgumentParsingBenchmark {
+
+    @Param({"integer", "string", "quoted_string", "greedy_string", "enum", "duration", "aggregate"})
+    private String argument;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String input;
+    private String suggestionInput;
+
+    /**
+     * Registers one command per argument type and selects the input for {@link #argument}.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+
+        this.manager.command(this.manager.commandBuilder("integer").required("value", integerParser()));
+        this.manager.command(this.manager.commandBuilder("string").required("value", stringParser()));
+        this.manager.command(this.manager.commandBuilder("quoted_string").required("value", quotedStringParser()));
+        this.manager.command(this.manager.commandBuilder("greedy_string").required("value", greedyStringParser()));
+        this.manager.command(
+                this.manager.commandBuilder("enum").required("value", enumParser(BenchmarkCommands.Material.class))
+        );
+        this.manager.command(this.manager.commandBuilder("duration").required("value", durationParser()));
+        this.manager.command(
+                this.manager.commandBuilder("aggregate").required("value", BenchmarkCommands.positionParser())
+        );
+
+        switch (this.argument) {
+            case "integer":
+                this.input = "integer 123456";
+                this.suggestionInput = "integer 12";
+                break;
+            case "string":
+                this.input = "string hello";
+                this.suggestionInput = "string he";
+                break;
+            case "quoted_string":
+                this.input = "quoted_string \"hello world\"";
+                this.suggestionInput = "quoted_string \"hello";
+                break;
+            case "greedy_string":
+                this.input = "greedy_string the quick brown fox jumps over the lazy dog";
+                this.suggestionInput = "greedy_string the quick";
+                break;
+            case "enum":
+                this.input = "enum DIAMOND_SWORD";
+                this.suggestionInput = "enum dia";
+                break;
+            case "duration":
+                this.input = "duration 1d12h30m15s";
+                this.suggestionInput = "duration 1d";
+                break;
+            case "aggregate":
+                this.input = "aggregate 10 64 -20";
+                this.suggestionInput = "aggregate 10 64 ";
+                break;
+            default:
+                throw new IllegalArgumentException(this.argument);
+        }
+    }
+
+    /**
+     * Executes the command for {@link #argument}.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object execute() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.input).join();
+    }
+
+    /**
+     * Suggests values for a partially typed {@link #argument}.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public @NonNull Suggestions<BenchmarkSender, ? extends Suggestion> suggest() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, this.suggestionInput);
+    }
+}
@@ -0,0 +1,189 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.aggregate.AggregateParser;
+
+import static org.incendo.cloud.description.Description.description;
+import static org.incendo.cloud.parser.standard.DurationParser.durationParser;
+import static org.incendo.cloud.parser.standard.EnumParser.enumParser;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+/**
+ * A small but representative command tree shared by the benchmarks.
+ */
+public final class BenchmarkCommands {
+
+    private BenchmarkCommands() {
+    }
+
+    /**
+     * Registers the fixture commands to the given {@code manager}.
+     *
+     * @param manager the command manager
+     */
+    public static void registerFixture(final @NonNull CommandManager<BenchmarkSender> manager) {
+        manager.command(
+                manager.commandBuilder("teleport", description("Teleports the sender"), "tp")
+                        .required("x", integerParser())
+                        .required("y", integerParser())
+                        .required("z", integerParser())
+                        .flag(manager.flagBuilder("silent").withAliases("s"))
+                        .flag(manager.flagBuilder("world").withComponent(stringParser()))
+        );
+        manager.command(
+                manager.commandBuilder("give", description("Gives the sender an item"))
+                        .required("material", enumParser(Material.class))
+                        .required("amount", integerParser(1, 64))
+        );
+        manager.command(
+                manager.commandBuilder("config", description("Updates a configuration value"))
+                        .literal("set")
+                        .required("key", stringParser())
+                        .required("value", greedyStringParser())
+        );
+        manager.command(
+                manager.commandBuilder("config", description("Reads a configuration value"))
+                        .literal("get")
+                        .required("key", stringParser())
+        );
+        manager.command(
+                manager.commandBuilder("config", description("Reloads the configuration"))
+                        .literal("reload")
+        );
+        manager.command(
+                manager.commandBuilder("ban", description("Bans a player for a period of time"))
+                        .required("target", stringParser())
+                        .required("duration", durationParser())
+                        .optional("reason", greedyStringParser())
+        );
+        manager.command(
+                manager.commandBuilder("position", description("Stores a position"))
+                        .required("position", positionParser())
+        );
+        manager.command(
+                manager.commandBuilder("fail", description("Always fails"))
+                        .handler(context -> {
+                            throw new IllegalStateException("fail");
+                        })
+        );
+    }
+
+    /**
+     * Returns an aggregate parser that parses three integers into a {@link Position}.
+     *
+     * @return the parser
+     */
+    public static @NonNull AggregateParser<BenchmarkSender, Position> positionParser() {
+        return AggregateParser.<BenchmarkSender>builder()
+                .withComponent("x", integerParser())
+                .withComponent("y", integerParser())
+                .withComponent("z", integerParser())
+                .withMapper(
+                        Position.class,
+                        (commandContext, context) -> ArgumentParseResult.successFuture(
+                                new Position(context.<Integer>get("x"), context.<Integer>get("y"), context.<Integer>get("z"))
+                        )
+                ).build();
+    }
+
+    /**
+     * Enum used by the enum argument benchmarks.
+     */
+    public enum Material {
+        STONE,
+        GRASS,
+        DIRT,
+        COBBLESTONE,
+        PLANKS,
+        SAPLING,
+        BEDROCK,
+        WATER,
+        LAVA,
+        SAND,
+        GRAVEL,
+        GOLD_ORE,
+        IRON_ORE,
+        COAL_ORE,
+        DIAMOND_ORE,
+        DIAMOND,
+        DIAMOND_SWORD,
+        DIAMOND_PICKAXE
+    }
+
+    /**
+     * Value produced by {@link #positionParser()}.
+     */
+    public static final class Position {
+
+        private final int x;
+        private final int y;
+        private final int z;
+
+        /**
+         * Creates a new position.
+         *
+         * @param x the x coordinate
+         * @param y the y coordinate
+         * @param z the z coordinate
+         */
+        public Position(final int x, final int y, final int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        /**
+         * Returns the x coordinate.
+         *
+         * @return the x coordinate
+         */
+        public int x() {
+            return this.x;
+        }
+
+        /**
+         * Returns the y coordinate.
+         *
+         * @return the y coordinate
+         */
+        public int y() {
+            return this.y;
+        }
+
+        /**
+         * Returns the z coordinate.
+         *
+         * @return the z coordinate
+         */
+        public int z() {
+            return this.z;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.CommandManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the failure paths: creating the exception and dispatching it through the exception controller to a
+ * handler that renders its message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExceptionHandlingBenchmark {
+
+    @Param({"no_such_command", "invalid_syntax", "argument_parse", "execution"})
+    private String failure;
+
+    @Param({"true", "false"})
+    private boolean renderMessage;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String input;
+
+    /**
+     * Registers the fixture commands and a handler for every exception.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        BenchmarkCommands.registerFixture(this.manager);
+
+        final boolean render = this.renderMessage;
+        this.manager.exceptionController().registerHandler(Throwable.class, context -> {
+            if (render) {
+                context.context().store("message", String.valueOf(context.exception().getMessage()));
+            }
+        });
+
+        switch (this.failure) {
+            case "no_such_command":
+                this.input = "unknown command";
+                break;
+            case "invalid_syntax":
+                this.input = "config";
+                break;
+            case "argument_parse":
+                this.input = "give NOT_A_MATERIAL 1";
+                break;
+            case "execution":
+                this.input = "fail";
+                break;
+            default:
+                throw new IllegalArgumentException(this.failure);
+        }
+    }
+
+    /**
+     * Executes the failing input.
+     *
+     * @return the thrown exception
+     */
+    @Benchmark
+    public Object execute() {
+        try {
+            return this.manager.commandExecutor().executeCommand(this.sender, this.input).join();
+        } catch (final CompletionException exception) {
+            return exception;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+/**
+ * Benchmarks parsing and suggestions of command flags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FlagBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int flags;
+
+    @Param({"presence", "value"})
+    private String kind;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String input;
+
+    /**
+     * Registers a command with {@link #flags} flags of the given {@link #kind}.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+
+        final boolean valueFlags = "value".equals(this.kind);
+        final StringBuilder inputBuilder = new StringBuilder("flags");
+        Command.Builder<BenchmarkSender> builder = this.manager.commandBuilder("flags");
+        for (int i = 0; i < this.flags; i++) {
+            final String name = "flag" + i;
+            if (valueFlags) {
+                builder = builder.flag(this.manager.flagBuilder(name).withComponent(integerParser()));
+                inputBuilder.append(" --").append(name).append(' ').append(i);
+            } else {
+                builder = builder.flag(this.manager.flagBuilder(name));
+                inputBuilder.append(" --").append(name);
+            }
+        }
+        this.manager.command(builder);
+        this.input = inputBuilder.toString();
+    }
+
+    /**
+     * Executes the command with every flag present.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object execute() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.input).join();
+    }
+
+    /**
+     * Suggests flag names after the first flag has been entered.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public @NonNull Suggestions<BenchmarkSender, ? extends Suggestion> suggestFlags() {
+        final String firstFlag = "value".equals(this.kind) ? "flags --flag0 0 --" : "flags --flag0 --";
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, firstFlag);
+    }
+}
@@ -0,0 +1,136 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.help.HelpHandler;
+import org.incendo.cloud.help.HelpHandlerFactory;
+import org.incendo.cloud.help.HelpQuery;
+import org.incendo.cloud.help.result.HelpQueryResult;
+import org.incendo.cloud.help.result.IndexCommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.incendo.cloud.description.Description.description;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+/**
+ * Benchmarks help queries against the standard and the searching help handlers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HelpBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int commands;
+
+    private BenchmarkSender sender;
+    private HelpHandler<BenchmarkSender> standardHandler;
+    private HelpHandler<BenchmarkSender> searchingHandler;
+
+    /**
+     * Registers the fixture commands together with {@link #commands} additional commands.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        BenchmarkCommands.registerFixture(manager);
+        for (int i = 0; i < this.commands; i++) {
+            manager.command(
+                    manager.commandBuilder("command" + i, description("Generated command number " + i))
+                            .literal("sub")
+                            .required("value", stringParser())
+            );
+        }
+        this.standardHandler = manager.createHelpHandler();
+        this.searchingHandler = HelpHandlerFactory.searching(manager).createHelpHandler(command -> true);
+    }
+
+    /**
+     * Queries the full root index.
+     *
+     * @return the query result
+     */
+    @Benchmark
+    public @NonNull IndexCommandResult<BenchmarkSender> rootIndex() {
+        return this.standardHandler.queryRootIndex(this.sender);
+    }
+
+    /**
+     * Queries the first page of the root index.
+     *
+     * @return the query result
+     */
+    @Benchmark
+    public @NonNull IndexCommandResult<BenchmarkSender> rootIndexPage() {
+        return this.standardHandler.queryRootIndex(this.sender, 0, 10);
+    }
+
+    /**
+     * Queries a single command.
+     *
+     * @return the query result
+     */
+    @Benchmark
+    public @NonNull HelpQueryResult<BenchmarkSender> exactQuery() {
+        return this.standardHandler.query(HelpQuery.of(this.sender, "command1 sub"));
+    }
+
+    /**
+     * Queries the commands that share a prefix.
+     *
+     * @return the query result
+     */
+    @Benchmark
+    public @NonNull HelpQueryResult<BenchmarkSender> prefixQuery() {
+        return this.standardHandler.query(HelpQuery.of(this.sender, "command1"));
+    }
+
+    /**
+     * Searches the commands using free text.
+     *
+     * @return the query result
+     */
+    @Benchmark
+    public @NonNull HelpQueryResult<BenchmarkSender> search() {
+        return this.searchingHandler.query(HelpQuery.of(this.sender, "generated number"));
+    }
+}
@@ -0,0 +1,131 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing and suggestions against a tree with a large number of root literals.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WideTreeBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int literals;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String firstInput;
+    private String lastInput;
+
+    /**
+     * Registers {@link #literals} root commands.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        for (int i = 0; i < this.literals; i++) {
+            this.manager.command(this.manager.commandBuilder("literal" + i).literal("sub"));
+        }
+        this.firstInput = "literal0 sub";
+        this.lastInput = "literal" + (this.literals - 1) + " sub";
+    }
+
+    /**
+     * Executes the first registered root command.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object executeFirst() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.firstInput).join();
+    }
+
+    /**
+     * Executes the last registered root command.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public Object executeLast() {
+        return this.manager.commandExecutor().executeCommand(this.sender, this.lastInput).join();
+    }
+
+    /**
+     * Executes input that does not match any of the root commands.
+     *
+     * @return the thrown exception
+     */
+    @Benchmark
+    public Object executeUnknown() {
+        try {
+            return this.manager.commandExecutor().executeCommand(this.sender, "unknown").join();
+        } catch (final CompletionException exception) {
+            return exception;
+        }
+    }
+
+    /**
+     * Suggests every root command.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public @NonNull Suggestions<BenchmarkSender, ? extends Suggestion> suggestAll() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "");
+    }
+
+    /**
+     * Suggests the root commands that share a common prefix.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public @NonNull Suggestions<BenchmarkSender, ? extends Suggestion> suggestPrefix() {
+        return this.manager.suggestionFactory().suggestImmediately(this.sender, "literal1");
+    }
+}
@@ -29,7 +29,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.apiguardian.api.API;
@@ -85,6 +87,7 @@ import org.incendo.cloud.type.tuple.Triplet;
 public class Command<C> {
 
     private final List<@NonNull CommandComponent<C>> components;
+    private final Map<@NonNull CommandComponent<C>, Integer> componentSlots;
     private final @Nullable CommandComponent<C> flagComponent;
     private final CommandExecutionHandler<C> commandExecutionHandler;
     private final Type senderType;
@@ -138,6 +141,12 @@ public class Command<C> {
                 foundOptional = true;
             }
         }
+
+        // Components occupy the slot matching their position, the command tree assigns the same slots to its nodes
+        this.componentSlots = new IdentityHashMap<>(this.components.size());
+        for (int slot = 0; slot < this.components.size(); slot++) {
+            this.componentSlots.putIfAbsent(this.components.get(slot), slot);
+        }
         this.commandExecutionHandler = commandExecutionHandler;
         this.senderType = senderType;
         this.permission = permission;
@@ -229,6 +238,21 @@ public class Command<C> {
         return new ArrayList<>(this.components);
     }
 
+    /**
+     * Returns the slot assigned to the given {@code component}.
+     * <p>
+     * The slot is the position of the component in {@link #components()}, and is used by the
+     * {@link org.incendo.cloud.context.CommandContext} to store parsed values without hashing.
+     *
+     * @param component the component
+     * @return the slot, or {@code -1} if the component is not part of this command
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public int componentSlot(final @NonNull CommandComponent<C> component) {
+        final Integer slot = this.componentSlots.get(component);
+        return slot == null ? -1 : slot;
+    }
+
     /**
      * Returns the first command component.
      *
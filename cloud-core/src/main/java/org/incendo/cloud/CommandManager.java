@@ -24,6 +24,9 @@
 package org.incendo.cloud;
 
 import io.leangen.geantyref.TypeToken;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -31,6 +34,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -46,6 +51,7 @@ import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandContextFactory;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.context.ParsingContextSampler;
 import org.incendo.cloud.context.StandardCommandContextFactory;
 import org.incendo.cloud.exception.handling.ExceptionController;
 import org.incendo.cloud.execution.CommandExecutor;
@@ -60,9 +66,11 @@ import org.incendo.cloud.help.CommandPredicate;
 import org.incendo.cloud.help.HelpHandler;
 import org.incendo.cloud.help.HelpHandlerFactory;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
+import org.incendo.cloud.internal.CommandListener;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
 import org.incendo.cloud.meta.CommandMeta;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserParameter;
 import org.incendo.cloud.parser.ParserRegistry;
@@ -119,7 +127,13 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
     private CaptionRegistry<C> captionRegistry;
     private HelpHandlerFactory<C> helpHandlerFactory = HelpHandlerFactory.standard(this);
     private SuggestionMapper<? extends Suggestion> mapper = SuggestionMapper.identity();
+    private volatile CommandMetrics<C> commandMetrics = CommandMetrics.noop();
+    private ParsingContextSampler<C> parsingContextSampler = ParsingContextSampler.always();
+    private volatile int commandContextPoolSize = 0;
+    private volatile Duration suggestionProviderTimeout = Duration.ZERO;
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
+    private final AtomicLong commandRevision = new AtomicLong();
+    private final List<WeakReference<CommandListener<C>>> commandListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Create a new command manager instance.
@@ -236,14 +250,49 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
      */
     @SuppressWarnings("unchecked")
     public @This @NonNull CommandManager<C> command(final @NonNull Command<? extends C> command) {
+        this.requireRegistrationAllowed();
+        this.commandTree.insertCommand((Command<C>) command);
+        this.commands.add((Command<C>) command);
+        this.commandRevision.incrementAndGet();
+        this.notifyCommandListeners(Collections.singletonList((Command<C>) command), true /* registered */);
+        return this;
+    }
+
+    /**
+     * Registers all the given commands to the command manager and inserts them into the underlying command tree using a
+     * single tree operation. The commands will be forwarded to the {@link CommandRegistrationHandler} and will, depending
+     * on the platform, be forwarded to the platform.
+     * <p>
+     * This behaves like invoking {@link #command(Command)} for each of the commands, but the tree is only locked and
+     * verified once, which makes this preferable when registering a large amount of commands at once. Unlike registering
+     * the commands one by one, the registration is atomic: if any of the commands cannot be inserted then none of them
+     * are registered.
+     *
+     * @param commands Commands to register
+     * @return The command manager instance. This is returned so that these method calls may be chained. This will always
+     *         return {@code this}.
+     */
+    @SuppressWarnings("unchecked")
+    @API(status = API.Status.EXPERIMENTAL)
+    public @This @NonNull CommandManager<C> command(final @NonNull Collection<? extends @NonNull Command<? extends C>> commands) {
+        this.requireRegistrationAllowed();
+        final List<Command<C>> commandList = new ArrayList<>(commands.size());
+        for (final Command<? extends C> command : commands) {
+            commandList.add((Command<C>) command);
+        }
+        this.commandTree.insertCommands(commandList);
+        this.commands.addAll(commandList);
+        this.commandRevision.incrementAndGet();
+        this.notifyCommandListeners(commandList, true /* registered */);
+        return this;
+    }
+
+    private void requireRegistrationAllowed() {
         if (!(this.transitionIfPossible(RegistrationState.BEFORE_REGISTRATION, RegistrationState.REGISTERING)
                 || this.isCommandRegistrationAllowed())) {
             throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
                     + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
         }
-        this.commandTree.insertCommand((Command<C>) command);
-        this.commands.add((Command<C>) command);
-        return this;
     }
 
     /**
@@ -322,6 +371,119 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         this.commandSyntaxFormatter = commandSyntaxFormatter;
     }
 
+    /**
+     * Returns the command metrics that the dispatch phases are reported to.
+     *
+     * @return the command metrics
+     * @see #commandMetrics(CommandMetrics)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull CommandMetrics<C> commandMetrics() {
+        return this.commandMetrics;
+    }
+
+    /**
+     * Sets the command metrics that the dispatch phases are reported to.
+     * <p>
+     * The default instance is {@link CommandMetrics#noop()}, in which case the dispatch does not take any timestamps.
+     *
+     * @param commandMetrics new command metrics
+     * @see #commandMetrics()
+     * @see org.incendo.cloud.metrics.StandardCommandMetrics
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void commandMetrics(final @NonNull CommandMetrics<C> commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Returns the sampler that decides whether new command contexts record parsing contexts.
+     *
+     * @return the parsing context sampler
+     * @see #parsingContextSampler(ParsingContextSampler)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull ParsingContextSampler<C> parsingContextSampler() {
+        return this.parsingContextSampler;
+    }
+
+    /**
+     * Sets the sampler that decides whether new command contexts record parsing contexts.
+     * <p>
+     * The default sampler is {@link ParsingContextSampler#always()}. Platforms that never read
+     * {@link CommandContext#parsingContexts()} may use {@link ParsingContextSampler#never()} to avoid the cost of recording.
+     *
+     * @param parsingContextSampler new sampler
+     * @see #parsingContextSampler()
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void parsingContextSampler(final @NonNull ParsingContextSampler<C> parsingContextSampler) {
+        this.parsingContextSampler = parsingContextSampler;
+    }
+
+    /**
+     * Returns the maximum number of idle command contexts that are kept for reuse.
+     *
+     * @return the pool size, {@code 0} if contexts are not reused
+     * @see #commandContextPoolSize(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public int commandContextPoolSize() {
+        return this.commandContextPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of idle command contexts that are kept for reuse. Contexts are not reused by default.
+     * <p>
+     * When enabled, the contexts created by {@link #commandExecutor()} and {@link #suggestionFactory()} are cleared and
+     * returned to the pool as soon as the future they returned has completed. The context exposed by
+     * {@link org.incendo.cloud.execution.CommandResult#commandContext()} and
+     * {@link org.incendo.cloud.suggestion.Suggestions#commandContext()} is then a released context, and command handlers
+     * must not retain the context beyond the future they return. Released contexts throw {@link IllegalStateException} when
+     * they are used.
+     *
+     * @param commandContextPoolSize the pool size, {@code 0} to disable reuse
+     * @see #commandContextPoolSize()
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void commandContextPoolSize(final int commandContextPoolSize) {
+        if (commandContextPoolSize < 0) {
+            throw new IllegalArgumentException("The pool size may not be negative");
+        }
+        this.commandContextPoolSize = commandContextPoolSize;
+    }
+
+    /**
+     * Returns how long the suggestion providers of a single suggestion request are waited for.
+     *
+     * @return the timeout, {@link Duration#ZERO} if providers are waited for indefinitely
+     * @see #suggestionProviderTimeout(Duration)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull Duration suggestionProviderTimeout() {
+        return this.suggestionProviderTimeout;
+    }
+
+    /**
+     * Sets how long the suggestion providers of a single suggestion request are waited for. Providers are waited for
+     * indefinitely by default.
+     * <p>
+     * The providers of all components that are suggested for are queried on the suggestion executor without waiting for
+     * each other, and the suggestions are added in the same order as if they had been queried one by one. A provider that
+     * has not completed within the timeout, measured from when that provider is queried, does not contribute any
+     * suggestions, so that the suggestions of the other providers are returned without it.
+     *
+     * @param suggestionProviderTimeout the timeout, {@link Duration#ZERO} to wait indefinitely
+     * @see #suggestionProviderTimeout()
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void suggestionProviderTimeout(final @NonNull Duration suggestionProviderTimeout) {
+        if (suggestionProviderTimeout.isNegative()) {
+            throw new IllegalArgumentException("The suggestion provider timeout may not be negative");
+        }
+        this.suggestionProviderTimeout = suggestionProviderTimeout;
+    }
+
     /**
      * Returns the command registration handler.
      * <p>
@@ -473,7 +635,41 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         this.commandRegistrationHandler.unregisterRootCommand(node.component());
 
         // We then delete it from the tree.
-        this.commandTree.deleteRecursively(node, true, this.commands::remove);
+        final List<Command<C>> deleted = new ArrayList<>();
+        this.commandTree.deleteRecursively(node, true, command -> {
+            this.commands.remove(command);
+            deleted.add(command);
+        });
+        this.commandRevision.incrementAndGet();
+        this.notifyCommandListeners(deleted, false /* registered */);
+    }
+
+    /**
+     * Registers a listener that is notified when commands are registered or deleted.
+     * <p>
+     * The listener is only weakly referenced, and is removed once it is no longer referenced elsewhere.
+     *
+     * @param listener the listener
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public void registerCommandListener(final @NonNull CommandListener<C> listener) {
+        this.commandListeners.add(new WeakReference<>(listener));
+    }
+
+    private void notifyCommandListeners(final @NonNull List<@NonNull Command<C>> commands, final boolean registered) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        for (final WeakReference<CommandListener<C>> reference : this.commandListeners) {
+            final CommandListener<C> listener = reference.get();
+            if (listener == null) {
+                this.commandListeners.remove(reference);
+            } else if (registered) {
+                listener.commandsRegistered(Collections.unmodifiableList(commands));
+            } else {
+                listener.commandsDeleted(Collections.unmodifiableList(commands));
+            }
+        }
     }
 
     /**
@@ -702,6 +898,18 @@ public abstract class CommandManager<C> implements Stateful<RegistrationState>,
         return Collections.unmodifiableCollection(this.commands);
     }
 
+    /**
+     * Returns a number that changes whenever commands are registered or deleted.
+     * <p>
+     * This can be used to invalidate data that is derived from the {@link #commands() registered commands}.
+     *
+     * @return the current command revision
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public final long commandRevision() {
+        return this.commandRevision.get();
+    }
+
     /**
      * Creates a new command help handler instance.
      * <p>
@@ -26,9 +26,11 @@ package org.incendo.cloud;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -41,6 +43,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apiguardian.api.API;
@@ -60,6 +64,7 @@ import org.incendo.cloud.exception.NoPermissionException;
 import org.incendo.cloud.exception.NoSuchCommandException;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.SuggestionContext;
+import org.incendo.cloud.metrics.CommandMetrics;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
@@ -68,7 +73,9 @@ import org.incendo.cloud.permission.Permission;
 import org.incendo.cloud.permission.PermissionResult;
 import org.incendo.cloud.setting.ManagerSetting;
 import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionFactory;
 import org.incendo.cloud.suggestion.SuggestionMapper;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestions;
 import org.incendo.cloud.util.CompletableFutures;
 
@@ -271,9 +278,9 @@ public final class CommandTree<C> {
                 // Too many arguments. We have a unique path, so we can send the entire context
                 return CompletableFutures.failedFuture(
                         new InvalidSyntaxException(
-                                this.commandManager.commandSyntaxFormatter()
-                                        .apply(commandContext.sender(), parsedArguments, root),
-                                commandContext.sender(), this.getComponentChain(root)
+                                this.lazySyntax(commandContext.sender(), parsedArguments, root),
+                                commandContext.sender(),
+                                this.lazyComponentChain(root)
                         )
                 );
             }
@@ -292,21 +299,27 @@ public final class CommandTree<C> {
                 }
 
                 final CommandComponent<C> component = Objects.requireNonNull(child.component());
-                final ParsingContext<C> parsingContext = commandContext.createParsingContext(component);
+                final @Nullable ParsingContext<C> parsingContext = commandContext.isRecordingParsingContexts()
+                        ? commandContext.createParsingContext(component)
+                        : null;
 
                 // Skip a single space (argument delimiter)
                 commandInput.skipWhitespace(1);
                 // Copy the current queue so that we can deduce the captured input.
                 final CommandInput currentInput = commandInput.copy();
 
-                parsingContext.markStart();
+                if (parsingContext != null) {
+                    parsingContext.markStart();
+                }
 
                 return component.parser()
                         .parseFuture(commandContext, commandInput)
                         .thenComposeAsync(result -> {
-                            parsingContext.markEnd();
-                            parsingContext.success(!result.failure().isPresent());
-                            parsingContext.consumedInput(currentInput, commandInput);
+                            if (parsingContext != null) {
+                                parsingContext.markEnd();
+                                parsingContext.success(!result.failure().isPresent());
+                                parsingContext.consumedInput(currentInput, commandInput);
+                            }
 
                             if (result.parsedValue().isPresent()) {
                                 parsedArguments.add(component);
@@ -360,9 +373,9 @@ public final class CommandTree<C> {
                     // We know that there's no command, and we also cannot match any of the children
                     return CompletableFutures.failedFuture(
                             new InvalidSyntaxException(
-                                    this.commandManager.commandSyntaxFormatter()
-                                            .apply(commandContext.sender(), parsedArguments, root),
-                                    commandContext.sender(), this.getComponentChain(root)
+                                    this.lazySyntax(commandContext.sender(), parsedArguments, root),
+                                    commandContext.sender(),
+                                    this.lazyComponentChain(root)
                             )
                     );
                 });
@@ -462,10 +475,9 @@ public final class CommandTree<C> {
                     final List<CommandComponent<C>> components = Objects.requireNonNull(child.command()).components();
                     return CompletableFutures.failedFuture(
                             new InvalidSyntaxException(
-                                    this.commandManager.commandSyntaxFormatter()
-                                            .apply(commandContext.sender(), components, child),
+                                    this.lazySyntax(commandContext.sender(), components, child),
                                     sender,
-                                    this.getComponentChain(root)
+                                    this.lazyComponentChain(root)
                             )
                     );
                 }
@@ -489,10 +501,9 @@ public final class CommandTree<C> {
                     // Child does not have a command, and so we cannot proceed
                     return CompletableFutures.failedFuture(
                             new InvalidSyntaxException(
-                                    this.commandManager.commandSyntaxFormatter()
-                                            .apply(commandContext.sender(), parsedArguments, root),
+                                    this.lazySyntax(commandContext.sender(), parsedArguments, root),
                                     sender,
-                                    this.getComponentChain(root)
+                                    this.lazyComponentChain(root)
                             )
                     );
                 }
@@ -514,8 +525,6 @@ public final class CommandTree<C> {
             }
         }
 
-        final CommandComponent<C> component = Objects.requireNonNull(child.component());
-
         final CompletableFuture<?> parseResult;
         if (argumentValue != null) {
             if (argumentValue.parsedValue().isPresent()) {
@@ -533,17 +542,16 @@ public final class CommandTree<C> {
                return CompletableFuture.completedFuture(null);
            }
 
-           commandContext.store(component.name(), value);
+           commandContext.store(child, value);
            if (child.isLeaf()) {
                if (commandInput.isEmpty()) {
                    return CompletableFuture.completedFuture(child.command());
                }
                return CompletableFutures.failedFuture(
                        new InvalidSyntaxException(
-                               this.commandManager.commandSyntaxFormatter()
-                                       .apply(commandContext.sender(), parsedArguments, child),
+                               this.lazySyntax(commandContext.sender(), parsedArguments, child),
                                sender,
-                               this.getComponentChain(root)
+                               this.lazyComponentChain(root)
                        )
                );
            }
@@ -568,14 +576,20 @@ public final class CommandTree<C> {
             final @NonNull CommandInput commandInput,
             final @NonNull Executor executor
     ) {
-        final ParsingContext<C> parsingContext = commandContext.createParsingContext(node.component());
-        parsingContext.markStart();
+        final @Nullable ParsingContext<C> parsingContext = commandContext.isRecordingParsingContexts()
+                ? commandContext.createParsingContext(node.component())
+                : null;
+        if (parsingContext != null) {
+            parsingContext.markStart();
+        }
 
         final ArgumentParseResult<Boolean> preParseResult = node.component().preprocess(commandContext, commandInput);
 
         if (preParseResult.failure().isPresent() || !preParseResult.parsedValue().orElse(false)) {
-            parsingContext.markEnd();
-            parsingContext.success(false);
+            if (parsingContext != null) {
+                parsingContext.markEnd();
+                parsingContext.success(false);
+            }
             if (preParseResult.failure().isPresent()) {
                 return CompletableFutures.failedFuture(
                         this.argumentParseException(commandContext, node, preParseResult)
@@ -592,9 +606,11 @@ public final class CommandTree<C> {
         return node.component().parser()
                 .parseFuture(commandContext, commandInput)
                 .thenComposeAsync(result -> {
-                    parsingContext.consumedInput(currentInput, commandInput);
-                    parsingContext.markEnd();
-                    parsingContext.success(false);
+                    if (parsingContext != null) {
+                        parsingContext.consumedInput(currentInput, commandInput);
+                        parsingContext.markEnd();
+                        parsingContext.success(false);
+                    }
 
                     if (result.failure().isPresent()) {
                         commandInput.cursor(currentInput.cursor());
@@ -615,10 +631,41 @@ public final class CommandTree<C> {
         return new ArgumentParseException(
                 result.failure().get(),
                 commandContext.sender(),
-                this.getComponentChain(node)
+                this.lazyComponentChain(node)
         );
     }
 
+    /**
+     * Returns a supplier that formats the syntax of the given components when it is first invoked.
+     * <p>
+     * The components are copied, as the list of parsed components may be modified after the supplier has been created.
+     *
+     * @param sender     the command sender
+     * @param components the components to format
+     * @param node       the node to format from
+     * @return the syntax supplier
+     */
+    private @NonNull Supplier<@NonNull String> lazySyntax(
+            final @NonNull C sender,
+            final @NonNull List<@NonNull CommandComponent<C>> components,
+            final @NonNull CommandNode<C> node
+    ) {
+        final List<CommandComponent<C>> snapshot = new ArrayList<>(components);
+        return () -> this.commandManager.commandSyntaxFormatter().apply(sender, snapshot, node);
+    }
+
+    /**
+     * Returns a supplier that computes the component chain leading up to the given {@code end} node when it is first invoked.
+     *
+     * @param end the end node
+     * @return the chain supplier
+     */
+    private @NonNull Supplier<@NonNull List<@NonNull CommandComponent<?>>> lazyComponentChain(
+            final @NonNull CommandNode<C> end
+    ) {
+        return () -> this.getComponentChain(end);
+    }
+
     /**
      * Returns suggestions from the input queue
      *
@@ -645,22 +692,47 @@ public final class CommandTree<C> {
             final @NonNull SuggestionMapper<S> mapper,
             final @NonNull Executor executor
     ) {
+        @SuppressWarnings("unchecked") final Comparator<? super S> comparator =
+                (Comparator<? super S>) context.optional(SuggestionContext.COMPARATOR_KEY).orElse(null);
         final SuggestionContext<C, S> suggestionCtx = new SuggestionContext<>(
                 this.commandManager.suggestionProcessor(),
                 context,
                 commandInput,
-                mapper
+                mapper,
+                context.getOrDefault(SuggestionFactory.SUGGESTION_LIMIT, Integer.MAX_VALUE),
+                comparator
         );
-        return this.getSuggestions(suggestionCtx, commandInput, this.internalTree, executor)
+        @SuppressWarnings("unchecked") final SuggestionContext.ResumePoint<C> resumePoint =
+                (SuggestionContext.ResumePoint<C>) context.optional(SuggestionContext.RESUME_FROM_KEY).orElse(null);
+        final CommandNode<C> start;
+        if (resumePoint == null) {
+            start = this.internalTree;
+        } else {
+            // The tokens before the cursor are unchanged, and their values are stored in the context
+            commandInput.cursor(resumePoint.cursor());
+            start = resumePoint.node();
+        }
+        return this.getSuggestions(suggestionCtx, commandInput, start, executor)
+                .thenCompose($ -> suggestionCtx.awaitSuggestions(executor))
                 .thenApply($ -> suggestionCtx.makeSuggestions());
     }
 
-    @SuppressWarnings("MixedMutabilityReturnType")
     private @NonNull CompletableFuture<SuggestionContext<C, ?>> getSuggestions(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandInput commandInput,
             final @NonNull CommandNode<C> root,
             final @NonNull Executor executor
+    ) {
+        context.enteredNode(root, commandInput);
+        return this.walkSuggestions(context, commandInput, root, executor).whenComplete(($, throwable) -> context.exitedNode());
+    }
+
+    @SuppressWarnings("MixedMutabilityReturnType")
+    private @NonNull CompletableFuture<SuggestionContext<C, ?>> walkSuggestions(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull CommandInput commandInput,
+            final @NonNull CommandNode<C> root,
+            final @NonNull Executor executor
     ) {
         // If the sender isn't allowed to access the root node, no suggestions are needed
         if (!this.determineAccess(context.commandContext().sender(), root).map(PermissionResult::allowed).orElse(false)) {
@@ -705,6 +777,9 @@ public final class CommandTree<C> {
                     break;
                 }
 
+                if (root == this.internalTree && this.commandManager.commandMetrics().enabled()) {
+                    context.commandContext().store(CommandMetrics.SUGGESTION_ROOT_COMMAND, childComponent.name());
+                }
                 return this.getSuggestions(context, commandInput, child, executor);
             }
 
@@ -717,7 +792,7 @@ public final class CommandTree<C> {
         if (commandInput.remainingTokens() <= 1) {
             for (final CommandNode<C> node : staticArguments) {
                 suggestionFuture = suggestionFuture
-                        .thenCompose(ctx -> this.addSuggestionsForLiteralArgument(context, node, commandInput));
+                        .thenCompose(ctx -> this.addSuggestionsForLiteralArgument(context, node, commandInput, executor));
             }
         }
 
@@ -736,32 +811,36 @@ public final class CommandTree<C> {
     /**
      * Adds the suggestions for a static argument if they match the given {@code input}
      *
-     * @param context the suggestion context
-     * @param node    the node containing the static argument
-     * @param input   the current input
+     * @param context  the suggestion context
+     * @param node     the node containing the static argument
+     * @param input    the current input
+     * @param executor executor to query the suggestion provider on
      * @return future that completes with the context
      */
     private CompletableFuture<SuggestionContext<C, ?>> addSuggestionsForLiteralArgument(
             final @NonNull SuggestionContext<C, ?> context,
             final @NonNull CommandNode<C> node,
-            final @NonNull CommandInput input
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor
     ) {
-        if (!this.determineAccess(context.commandContext().sender(), node).map(PermissionResult::allowed).orElse(false)) {
+        if (context.isFull()
+                || !this.determineAccess(context.commandContext().sender(), node).map(PermissionResult::allowed).orElse(false)) {
             return CompletableFuture.completedFuture(context);
         }
         final CommandComponent<C> component = Objects.requireNonNull(node.component());
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
+        final String string = input.peekString();
+        context.addSuggestionsLater(input, this.querySuggestions(context, component.suggestionProvider(), input, executor)
                 .thenApply(suggestionsToAdd -> {
-                    final String string = input.peekString();
+                    final List<Suggestion> suggestions = new ArrayList<>();
                     for (Suggestion suggestion : suggestionsToAdd) {
                         if (suggestion.suggestion().equals(string) || !suggestion.suggestion().startsWith(string)) {
                             continue;
                         }
-                        context.addSuggestion(suggestion);
+                        suggestions.add(suggestion);
                     }
-                    return context;
-                });
+                    return suggestions;
+                }));
+        return CompletableFuture.completedFuture(context);
     }
 
     @SuppressWarnings("unchecked")
@@ -816,8 +895,12 @@ public final class CommandTree<C> {
             parsingFuture = CompletableFuture.completedFuture(null);
         } else {
             // START: Parsing
-            final ParsingContext<C> parsingContext = context.commandContext().createParsingContext(child.component());
-            parsingContext.markStart();
+            final @Nullable ParsingContext<C> parsingContext = context.commandContext().isRecordingParsingContexts()
+                    ? context.commandContext().createParsingContext(child.component())
+                    : null;
+            if (parsingContext != null) {
+                parsingContext.markStart();
+            }
             final CommandInput preParseInput = commandInput.copy();
 
             parsingFuture = child.component()
@@ -847,8 +930,10 @@ public final class CommandTree<C> {
                                 commandInput.moveCursor(-1);
                             }
                             // the current argument at the position is parsable and there are more arguments following
-                            context.commandContext().store(child.component().name(), parsedValue.get());
-                            parsingContext.success(true);
+                            context.commandContext().store(child, parsedValue.get());
+                            if (parsingContext != null) {
+                                parsingContext.success(true);
+                            }
                             return this.getSuggestions(context, commandInput, child, executor);
                         } else if (!parseSuccess && commandInputOriginal.remainingTokens() > 1) {
                             // at this point there should normally be no need to reset the command queue as we expect
@@ -889,7 +974,7 @@ public final class CommandTree<C> {
      * @param context  the suggestion context
      * @param node     the node containing the argument to get suggestions from
      * @param input    the input from the sender
-     * @param executor executor to schedule further suggestion logic to
+     * @param executor executor to query the suggestion providers on
      * @return the context
      */
     private @NonNull CompletableFuture<SuggestionContext<C, ?>> addArgumentSuggestions(
@@ -921,12 +1006,13 @@ public final class CommandTree<C> {
     }
 
     /**
-     * Adds the suggestions for the given {@code argument} to the given {@code context}
+     * Queries the suggestion provider of the given {@code argument} with a snapshot of the command context, and adds its
+     * suggestions to the given {@code context} once the provider and the providers queried before it have completed
      *
      * @param context   the suggestion context
      * @param component the component to get suggestions from
      * @param input     the input from the sender
-     * @param executor  executor to schedule further suggestion logic to
+     * @param executor  executor to query the suggestion provider on
      * @return future that completes with the context
      */
     private CompletableFuture<SuggestionContext<C, ?>> addArgumentSuggestions(
@@ -935,10 +1021,45 @@ public final class CommandTree<C> {
             final @NonNull CommandInput input,
             final @NonNull Executor executor
     ) {
-        return component.suggestionProvider()
-                .suggestionsFuture(context.commandContext(), input.copy())
-                .thenAcceptAsync(context::addSuggestions, executor)
-                .thenApply(in -> context);
+        if (context.isFull()) {
+            return CompletableFuture.completedFuture(context);
+        }
+        context.addSuggestionsLater(input, this.querySuggestions(context, component.suggestionProvider(), input, executor));
+        return CompletableFuture.completedFuture(context);
+    }
+
+    /**
+     * Queries the given {@code provider} on the given {@code executor} with a snapshot of the command context and a copy
+     * of the {@code input}, so that a provider that blocks does not hold up the traversal of the tree.
+     * <p>
+     * If a {@link CommandManager#suggestionProviderTimeout() timeout} is configured, then it is measured from this
+     * invocation, and the returned future completes without suggestions if the provider has not completed in time.
+     *
+     * @param context  the suggestion context
+     * @param provider the provider to query
+     * @param input    the input from the sender
+     * @param executor executor to query the provider on
+     * @return future that completes with the suggestions of the provider
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull CompletableFuture<Iterable<? extends Suggestion>> querySuggestions(
+            final @NonNull SuggestionContext<C, ?> context,
+            final @NonNull SuggestionProvider<C> provider,
+            final @NonNull CommandInput input,
+            final @NonNull Executor executor
+    ) {
+        context.queriedProvider(provider);
+        final CommandContext<C> snapshot = context.commandContext().snapshot();
+        final CommandInput inputCopy = input.copy();
+        final CompletableFuture<Iterable<? extends Suggestion>> future = CompletableFuture.supplyAsync(
+                () -> (CompletableFuture<Iterable<? extends Suggestion>>) provider.suggestionsFuture(snapshot, inputCopy),
+                executor
+        ).thenCompose(Function.identity());
+        final Duration timeout = this.commandManager.suggestionProviderTimeout();
+        if (timeout.isZero()) {
+            return future;
+        }
+        return CompletableFutures.completeOnTimeout(future, Collections.emptyList(), timeout);
     }
 
     /**
@@ -946,52 +1067,123 @@ public final class CommandTree<C> {
      *
      * @param command the command to insert
      */
-    @SuppressWarnings("unchecked")
     public void insertCommand(final @NonNull Command<C> command) {
         synchronized (this.commandLock) {
-            final CommandComponent<C> flagComponent = command.flagComponent();
-            final List<CommandComponent<C>> nonFlagArguments = command.nonFlagArguments();
-            final int flagStartIdx = this.flagStartIndex(nonFlagArguments);
-
-            CommandNode<C> node = this.internalTree;
-            for (int i = 0; i < nonFlagArguments.size(); i++) {
-                final CommandComponent<C> component = nonFlagArguments.get(i);
-
-                CommandNode<C> tempNode = node.getChild(component);
-                if (tempNode == null) {
-                    tempNode = node.addChild(component);
-                } else if (component.type() == CommandComponent.ComponentType.LITERAL && tempNode.component() != null) {
-                    for (final String alias : component.aliases()) {
-                        ((LiteralParser<C>) tempNode.component().parser()).insertAlias(alias);
-                    }
+            this.insertCommandNodes(command, null);
+            this.verify();
+            this.register();
+        }
+    }
+
+    /**
+     * Inserts all the given commands into the command tree and then verifies the integrity of the tree once.
+     * <p>
+     * The tree lock is only acquired once and the tree is only verified after the last command has been inserted.
+     * The insertion is atomic: if any of the commands cannot be inserted, or if the resulting tree fails verification,
+     * the tree is restored to its previous state, none of the commands are registered and the exception is rethrown.
+     * Every inserted command is passed to the {@link CommandManager#commandRegistrationHandler()}, like it would have
+     * been by {@link #insertCommand(Command)}.
+     *
+     * @param commands the commands to insert
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public void insertCommands(final @NonNull Collection<@NonNull Command<C>> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        synchronized (this.commandLock) {
+            final List<Runnable> undo = new ArrayList<>();
+            try {
+                for (final Command<C> command : commands) {
+                    this.insertCommandNodes(command, undo);
                 }
-                if (!node.children().isEmpty()) {
-                    node.sortChildren();
+                this.verify();
+            } catch (final RuntimeException e) {
+                for (int i = undo.size() - 1; i >= 0; i--) {
+                    undo.get(i).run();
                 }
-                tempNode.parent(node);
-                node = tempNode;
+                throw e;
+            }
+            // A command might have stopped being a leaf by the time the batch has been inserted.
+            for (final Command<C> command : commands) {
+                this.commandManager.commandRegistrationHandler().registerCommand(command);
+            }
+            this.register();
+        }
+    }
 
-                if (flagComponent != null && i >= flagStartIdx) {
-                    tempNode = node.addChild(flagComponent);
-                    tempNode.parent(node);
-                    node = tempNode;
+    /**
+     * Inserts the nodes of the given {@code command}.
+     *
+     * @param command the command to insert
+     * @param undo    list that actions reverting the changes made to the tree are appended to, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    private void insertCommandNodes(final @NonNull Command<C> command, final @Nullable List<Runnable> undo) {
+        final CommandComponent<C> flagComponent = command.flagComponent();
+        final List<CommandComponent<C>> nonFlagArguments = command.nonFlagArguments();
+        final int flagStartIdx = this.flagStartIndex(nonFlagArguments);
+
+        CommandNode<C> node = this.internalTree;
+        for (int i = 0; i < nonFlagArguments.size(); i++) {
+            final CommandComponent<C> component = nonFlagArguments.get(i);
+
+            CommandNode<C> tempNode = node.getChild(component);
+            if (tempNode == null) {
+                tempNode = this.addChild(node, component, undo);
+                tempNode.componentSlot(command.componentSlot(component));
+            } else if (component.type() == CommandComponent.ComponentType.LITERAL && tempNode.component() != null) {
+                final LiteralParser<C> parser = (LiteralParser<C>) tempNode.component().parser();
+                for (final String alias : component.aliases()) {
+                    if (undo != null && !parser.aliases().contains(alias)) {
+                        undo.add(() -> parser.removeAlias(alias));
+                    }
+                    parser.insertAlias(alias);
                 }
             }
+            if (!node.children().isEmpty()) {
+                node.sortChildren();
+            }
+            tempNode.slotCount(command.components().size());
+            tempNode.parent(node);
+            node = tempNode;
+
+            if (flagComponent != null && i >= flagStartIdx) {
+                tempNode = this.addChild(node, flagComponent, undo);
+                tempNode.componentSlot(command.componentSlot(flagComponent));
+                tempNode.slotCount(command.components().size());
+                tempNode.parent(node);
+                node = tempNode;
+            }
+        }
 
-            final CommandComponent<C> nodeComponent = node.component();
-            if (nodeComponent != null) {
-                if (node.command() != null) {
-                    throw new IllegalStateException(String.format(
-                            "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
-                            node, node.command()
-                    ));
-                }
+        final CommandComponent<C> nodeComponent = node.component();
+        if (nodeComponent != null) {
+            if (node.command() != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
+                        node, node.command()
+                ));
+            }
 
-                node.command(command);
+            node.command(command);
+            if (undo != null) {
+                final CommandNode<C> executorNode = node;
+                undo.add(executorNode::clearCommand);
             }
+        }
+    }
 
-            this.verifyAndRegister();
+    private @NonNull CommandNode<C> addChild(
+            final @NonNull CommandNode<C> parent,
+            final @NonNull CommandComponent<C> component,
+            final @Nullable List<Runnable> undo
+    ) {
+        final CommandNode<C> child = parent.addChild(component);
+        if (undo != null) {
+            undo.add(() -> parent.removeChild(child));
         }
+        return child;
     }
 
     /**
@@ -1050,9 +1242,9 @@ public final class CommandTree<C> {
     }
 
     /**
-     * Goes through all commands and registers them, then verifies the integrity of the command tree.
+     * Verifies the integrity of the command tree.
      */
-    private void verifyAndRegister() {
+    private void verify() {
         // All top level commands are supposed to be registered in the command manager
         this.internalTree.children().stream().map(CommandNode::component).forEach(component -> {
             if (component.type() != CommandComponent.ComponentType.LITERAL) {
@@ -1066,11 +1258,18 @@ public final class CommandTree<C> {
         this.getLeaves(this.internalTree).forEach(leaf -> {
             if (leaf.command() == null) {
                 throw new NoCommandInLeafException(leaf.component());
-            } else {
-                final Command<C> owningCommand = leaf.command();
-                this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
             }
         });
+    }
+
+    /**
+     * Goes through all commands and registers them, then propagates the requirements of the executable nodes.
+     * This must only be invoked after the tree has been {@link #verify() verified}.
+     */
+    private void register() {
+        this.getLeaves(this.internalTree).forEach(leaf ->
+                this.commandManager.commandRegistrationHandler().registerCommand(leaf.command())
+        );
 
         this.getExecutorNodes(this.internalTree).forEach(this::propagateRequirements);
     }
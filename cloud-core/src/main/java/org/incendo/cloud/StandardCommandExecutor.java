@@ -34,6 +34,8 @@ import org.incendo.cloud.exception.handling.ExceptionController;
 import org.incendo.cloud.execution.CommandExecutor;
 import org.incendo.cloud.execution.CommandResult;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.metrics.CommandMetrics;
+import org.incendo.cloud.metrics.CommandPhase;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.util.CompletableFutures;
 
@@ -42,6 +44,7 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
     private final CommandManager<C> commandManager;
     private final ExecutionCoordinator<C> executionCoordinator;
     private final CommandContextFactory<C> commandContextFactory;
+    private final CommandContext<C> releasedContext;
 
     StandardCommandExecutor(
             final @NonNull CommandManager<C> commandManager,
@@ -51,6 +54,7 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
         this.commandManager = commandManager;
         this.executionCoordinator = executionCoordinator;
         this.commandContextFactory = commandContextFactory;
+        this.releasedContext = CommandContext.released(commandManager);
     }
 
     @Override
@@ -62,39 +66,96 @@ final class StandardCommandExecutor<C> implements CommandExecutor<C> {
         final CommandContext<C> context = this.commandContextFactory.create(false, commandSender);
         contextConsumer.accept(context);
         final CommandInput commandInput = CommandInput.of(input);
-        return this.executeCommand(context, commandInput).whenComplete((result, throwable) -> {
+        final CompletableFuture<CommandResult<C>> future = this.executeAndHandleExceptions(context, commandInput);
+        if (this.commandManager.commandContextPoolSize() <= 0) {
+            return future;
+        }
+        // The pooled context may be reused before the result is read, so the result does not expose it
+        return CompletableFutures.thenRunAfterCompletion(
+                future.thenApply(result -> result == null ? null : CommandResult.of(this.releasedContext)),
+                () -> this.commandContextFactory.release(context)
+        );
+    }
+
+    private @NonNull CompletableFuture<CommandResult<C>> executeAndHandleExceptions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput commandInput
+    ) {
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        return this.executeCommand(context, commandInput, metrics).whenComplete((result, throwable) -> {
             if (throwable == null) {
                 return;
             }
+            final boolean timed = metrics.enabled();
+            final long start = timed ? System.nanoTime() : 0L;
+            boolean handled = false;
             try {
                 this.commandManager.exceptionController().handleException(
                         context,
                         ExceptionController.unwrapCompletionException(throwable)
                 );
+                handled = true;
             } catch (final RuntimeException runtimeException) {
                 throw runtimeException;
             } catch (final Throwable e) {
                 throw new CompletionException(e);
+            } finally {
+                if (timed) {
+                    metrics.record(
+                            context,
+                            CommandMetrics.rootCommand(context, throwable),
+                            CommandPhase.EXCEPTION_HANDLING,
+                            System.nanoTime() - start,
+                            handled
+                    );
+                }
             }
         });
     }
 
     private @NonNull CompletableFuture<CommandResult<C>> executeCommand(
             final @NonNull CommandContext<C> context,
-            final @NonNull CommandInput commandInput
+            final @NonNull CommandInput commandInput,
+            final @NonNull CommandMetrics<C> metrics
     ) {
         /* Store a copy of the input queue in the context */
         context.store("__raw_input__", commandInput.copy());
+        final boolean timed = metrics.enabled();
+        final long start = timed ? System.nanoTime() : 0L;
+        final State state;
         try {
-            if (this.commandManager.preprocessContext(context, commandInput) == State.ACCEPTED) {
-                return this.executionCoordinator()
-                        .coordinateExecution(this.commandManager.commandTree(), context, commandInput);
+            state = this.commandManager.preprocessContext(context, commandInput);
+        } catch (final Exception e) {
+            if (timed) {
+                metrics.record(context, null, CommandPhase.PREPROCESSING, System.nanoTime() - start, false);
+            }
+            return CompletableFutures.failedFuture(e);
+        }
+        final long preprocessingNanos = timed ? System.nanoTime() - start : 0L;
+        if (state != State.ACCEPTED) {
+            if (timed) {
+                metrics.record(context, null, CommandPhase.PREPROCESSING, preprocessingNanos, true);
             }
+            /* Wasn't allowed to execute the command */
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<CommandResult<C>> future;
+        try {
+            future = this.executionCoordinator().coordinateExecution(this.commandManager.commandTree(), context, commandInput);
         } catch (final Exception e) {
             return CompletableFutures.failedFuture(e);
         }
-        /* Wasn't allowed to execute the command */
-        return CompletableFuture.completedFuture(null);
+        if (!timed) {
+            return future;
+        }
+        /* The root command is only known once the input has been parsed */
+        return future.whenComplete((result, throwable) -> metrics.record(
+                context,
+                CommandMetrics.rootCommand(context, throwable),
+                CommandPhase.PREPROCESSING,
+                preprocessingNanos,
+                true
+        ));
     }
 
     @Override
@@ -23,14 +23,16 @@
 //
 package org.incendo.cloud.caption;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 @API(status = API.Status.STABLE)
 public interface CaptionFormatter<C, T> {
@@ -106,8 +108,19 @@ public interface CaptionFormatter<C, T> {
     );
 
 
+    /**
+     * Formatter that replaces the matches of a pattern with the values of the caption variables.
+     * <p>
+     * Each caption is parsed once into a template of literal segments and placeholders, which is cached by the caption
+     * text and reused for subsequent messages.
+     *
+     * @param <C> the command sender type
+     */
     final class PatternReplacingCaptionFormatter<C> implements CaptionFormatter<C, String> {
 
+        private static final int MAX_CACHED_TEMPLATES = 1024;
+
+        private final Map<String, CaptionTemplate> templates = new ConcurrentHashMap<>();
         private final Pattern pattern;
 
         private PatternReplacingCaptionFormatter(final @NonNull Pattern pattern) {
@@ -121,20 +134,91 @@ public interface CaptionFormatter<C, T> {
                 final @NonNull String caption,
                 final @NonNull List<@NonNull CaptionVariable> variables
         ) {
-            final Map<String, String> replacements = new HashMap<>();
-            for (final CaptionVariable variable : variables) {
-                replacements.put(variable.key(), variable.value());
+            CaptionTemplate template = this.templates.get(caption);
+            if (template == null) {
+                template = CaptionTemplate.compile(this.pattern, caption);
+                if (this.templates.size() >= MAX_CACHED_TEMPLATES) {
+                    this.templates.clear();
+                }
+                this.templates.put(caption, template);
             }
+            return template.render(variables);
+        }
+
 
-            final Matcher matcher = this.pattern.matcher(caption);
-            final StringBuffer stringBuffer = new StringBuffer();
-            while (matcher.find()) {
-                final String replacement = replacements.get(matcher.group(1));
-                matcher.appendReplacement(stringBuffer, replacement == null ? "$0" : replacement);
+        private static final class CaptionTemplate {
+
+            private final String[] literals;
+            private final String[] names;
+            private final String[] placeholders;
+            private final int literalLength;
+
+            private CaptionTemplate(
+                    final @NonNull String @NonNull[] literals,
+                    final @NonNull String @NonNull[] names,
+                    final @NonNull String @NonNull[] placeholders
+            ) {
+                this.literals = literals;
+                this.names = names;
+                this.placeholders = placeholders;
+                int literalLength = 0;
+                for (final String literal : literals) {
+                    literalLength += literal.length();
+                }
+                this.literalLength = literalLength;
+            }
+
+            private static @NonNull CaptionTemplate compile(final @NonNull Pattern pattern, final @NonNull String caption) {
+                final List<String> literals = new ArrayList<>();
+                final List<String> names = new ArrayList<>();
+                final List<String> placeholders = new ArrayList<>();
+                final Matcher matcher = pattern.matcher(caption);
+                int position = 0;
+                while (matcher.find()) {
+                    literals.add(caption.substring(position, matcher.start()));
+                    names.add(matcher.group(1));
+                    placeholders.add(matcher.group());
+                    position = matcher.end();
+                }
+                literals.add(caption.substring(position));
+                return new CaptionTemplate(
+                        literals.toArray(new String[0]),
+                        names.toArray(new String[0]),
+                        placeholders.toArray(new String[0])
+                );
             }
-            matcher.appendTail(stringBuffer);
 
-            return stringBuffer.toString();
+            private @NonNull String render(final @NonNull List<@NonNull CaptionVariable> variables) {
+                if (this.names.length == 0) {
+                    return this.literals[0];
+                }
+                final String[] values = new String[this.names.length];
+                int length = this.literalLength;
+                for (int i = 0; i < values.length; i++) {
+                    final String value = value(variables, this.names[i]);
+                    values[i] = value == null ? this.placeholders[i] : value;
+                    length += values[i].length();
+                }
+                final StringBuilder builder = new StringBuilder(length);
+                for (int i = 0; i < values.length; i++) {
+                    builder.append(this.literals[i]).append(values[i]);
+                }
+                return builder.append(this.literals[values.length]).toString();
+            }
+
+            private static @Nullable String value(
+                    final @NonNull List<@NonNull CaptionVariable> variables,
+                    final @Nullable String name
+            ) {
+                // Later variables take precedence over earlier variables with the same key.
+                for (int i = variables.size() - 1; i >= 0; i--) {
+                    final CaptionVariable variable = variables.get(i);
+                    if (variable.key().equals(name)) {
+                        return variable.value();
+                    }
+                }
+                return null;
+            }
         }
     }
 }
@@ -82,4 +82,19 @@ public interface CaptionProvider<C> {
      * @return the caption, or {@code null}
      */
     @Nullable String provide(@NonNull Caption caption, @NonNull C recipient);
+
+    /**
+     * Returns a key that identifies the group of recipients that receive the same captions from this provider, such as
+     * the locale of the {@code recipient}.
+     * <p>
+     * This is used by {@link CaptionRegistry#cachingCaptionRegistry() caching registries} to memoize the resolved
+     * captions. Returning {@code null} indicates that the values cannot be cached, which is the default.
+     *
+     * @param recipient the recipient
+     * @return the cache key, or {@code null}
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @Nullable Object cacheKey(final @NonNull C recipient) {
+        return null;
+    }
 }
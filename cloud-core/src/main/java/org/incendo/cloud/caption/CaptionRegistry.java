@@ -60,6 +60,16 @@ public interface CaptionRegistry<C> {
      */
     @This @NonNull CaptionRegistry<C> registerProvider(@NonNull CaptionProvider<C> provider);
 
+    /**
+     * Invalidates any cached caption values.
+     * <p>
+     * This should be invoked when the values returned by any of the registered providers change, such as when
+     * translations are reloaded. Registering a provider invalidates the caches automatically.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void invalidateCaches() {
+    }
+
     /**
      * Creates a new caption registry with no providers registered.
      *
@@ -67,6 +77,21 @@ public interface CaptionRegistry<C> {
      * @return new caption registry
      */
     static <C> CaptionRegistry<C> captionRegistry() {
-        return new CaptionRegistryImpl<>();
+        return new CaptionRegistryImpl<>(false /* caching */);
+    }
+
+    /**
+     * Creates a new caption registry with no providers registered, that caches the resolved captions.
+     * <p>
+     * A caption is cached for a recipient when every registered provider returns a {@link CaptionProvider#cacheKey(Object)
+     * cache key} for the recipient. The cached value is shared by all recipients for which the providers return equal keys.
+     * If any provider returns {@code null} the caption is resolved without the cache.
+     *
+     * @param <C> command sender type
+     * @return new caption registry
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> CaptionRegistry<C> cachingCaptionRegistry() {
+        return new CaptionRegistryImpl<>(true /* caching */);
     }
 }
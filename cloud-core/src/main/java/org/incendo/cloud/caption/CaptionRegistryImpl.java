@@ -23,7 +23,10 @@
 //
 package org.incendo.cloud.caption;
 
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.common.returnsreceiver.qual.This;
@@ -31,9 +34,12 @@ import org.checkerframework.common.returnsreceiver.qual.This;
 @API(status = API.Status.INTERNAL)
 public final class CaptionRegistryImpl<C> implements CaptionRegistry<C> {
 
+    private final Map<CacheKey, String> cache = new ConcurrentHashMap<>();
     private final LinkedList<@NonNull CaptionProvider<C>> providers = new LinkedList<>();
+    private final boolean caching;
 
-    CaptionRegistryImpl() {
+    CaptionRegistryImpl(final boolean caching) {
+        this.caching = caching;
     }
 
     @Override
@@ -41,13 +47,26 @@ public final class CaptionRegistryImpl<C> implements CaptionRegistry<C> {
             final @NonNull Caption caption,
             final @NonNull C sender
     ) {
+        if (!this.caching) {
+            return this.resolve(caption, sender);
+        }
+        final Object[] keys = new Object[this.providers.size()];
+        int index = 0;
         for (final CaptionProvider<C> provider : this.providers) {
-            final String result = provider.provide(caption, sender);
-            if (result != null) {
-                return result;
+            final Object key = provider.cacheKey(sender);
+            if (key == null) {
+                return this.resolve(caption, sender);
             }
+            keys[index++] = key;
         }
-        throw new IllegalArgumentException(String.format("There is no caption stored with key '%s'", caption));
+        final CacheKey cacheKey = new CacheKey(caption, keys);
+        final String cached = this.cache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        final String result = this.resolve(caption, sender);
+        this.cache.put(cacheKey, result);
+        return result;
     }
 
     @Override
@@ -55,6 +74,58 @@ public final class CaptionRegistryImpl<C> implements CaptionRegistry<C> {
             final @NonNull CaptionProvider<C> provider
     ) {
         this.providers.addFirst(provider);
+        this.invalidateCaches();
         return this;
     }
+
+    @Override
+    public void invalidateCaches() {
+        this.cache.clear();
+    }
+
+    private @NonNull String resolve(
+            final @NonNull Caption caption,
+            final @NonNull C sender
+    ) {
+        for (final CaptionProvider<C> provider : this.providers) {
+            final String result = provider.provide(caption, sender);
+            if (result != null) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException(String.format("There is no caption stored with key '%s'", caption));
+    }
+
+
+    private static final class CacheKey {
+
+        private final Caption caption;
+        private final Object[] keys;
+        private final int hashCode;
+
+        private CacheKey(final @NonNull Caption caption, final @NonNull Object @NonNull[] keys) {
+            this.caption = caption;
+            this.keys = keys;
+            this.hashCode = 31 * caption.hashCode() + Arrays.hashCode(keys);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) object;
+            return this.hashCode == that.hashCode
+                    && this.caption.equals(that.caption)
+                    && Arrays.equals(this.keys, that.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
 }
@@ -46,4 +46,9 @@ public abstract class ConstantCaptionProvider<C> implements CaptionProvider<C> {
     public final @Nullable String provide(final @NonNull Caption caption, final @NonNull C recipient) {
         return this.captions().get(caption);
     }
+
+    @Override
+    public final @NonNull Object cacheKey(final @NonNull C recipient) {
+        return ConstantCaptionProvider.class;
+    }
 }
@@ -44,4 +44,9 @@ public abstract class DelegatingCaptionProvider<C> implements CaptionProvider<C>
     public final @Nullable String provide(final @NonNull Caption caption, final @NonNull C recipient) {
         return this.delegate().provide(caption, recipient);
     }
+
+    @Override
+    public @Nullable Object cacheKey(final @NonNull C recipient) {
+        return this.delegate().cacheKey(recipient);
+    }
 }
@@ -66,6 +66,7 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
     private final ComponentType componentType;
     private final DefaultValue<C, ?> defaultValue;
     private final TypeToken<?> valueType;
+    private final CloudKey<?> key;
     private final SuggestionProvider<C> suggestionProvider;
     private final Collection<@NonNull ComponentPreprocessor<C>> componentPreprocessors;
 
@@ -153,6 +154,7 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
         this.name = name;
         this.parser = parser;
         this.valueType = valueType;
+        this.key = CloudKey.of(name, valueType);
         this.componentType = componentType;
         this.description = description;
         this.defaultValue = defaultValue;
@@ -169,6 +171,19 @@ public class CommandComponent<C> implements Comparable<CommandComponent<C>>, Pre
         return this.valueType;
     }
 
+    /**
+     * Returns the key that identifies the values produced by the {@link #parser()}.
+     * <p>
+     * The key is created once when the component is built, so that call sites that store or look up parsed values do
+     * not create a new key every time.
+     *
+     * @return the key
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull CloudKey<?> key() {
+        return this.key;
+    }
+
     /**
      * Returns the parser.
      *
@@ -69,6 +69,6 @@ public final class TypedCommandComponent<C, T> extends CommandComponent<C> imple
 
     @Override
     public @NonNull CloudKey<T> key() {
-        return CloudKey.of(this.name(), this.valueType());
+        return (CloudKey<T>) super.key();
     }
 }
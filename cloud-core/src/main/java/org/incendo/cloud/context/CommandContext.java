@@ -24,17 +24,18 @@
 package org.incendo.cloud.context;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
 import org.apiguardian.api.API;
-import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.caption.Caption;
@@ -42,9 +43,12 @@ import org.incendo.cloud.caption.CaptionFormatter;
 import org.incendo.cloud.caption.CaptionRegistry;
 import org.incendo.cloud.caption.CaptionVariable;
 import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.component.TypedCommandComponent;
 import org.incendo.cloud.execution.postprocessor.CommandPostprocessor;
 import org.incendo.cloud.injection.ParameterInjectorRegistry;
+import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.key.CloudKey;
+import org.incendo.cloud.key.CloudKeyHolder;
 import org.incendo.cloud.key.MutableCloudKeyContainer;
 import org.incendo.cloud.parser.flag.FlagContext;
 import org.incendo.cloud.permission.Permission;
@@ -54,20 +58,34 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * Command context used to assist in the parsing of commands
+ * <p>
+ * A context that has been {@link CommandContextFactory#release(CommandContext) released} to a pool throws
+ * {@link IllegalStateException} from its accessors, as it may have been cleared or reused by another dispatch.
  *
  * @param <C> command sender type
  */
 @API(status = API.Status.STABLE)
 public class CommandContext<C> implements MutableCloudKeyContainer {
 
-    private final List<ParsingContext<C>> parsingContexts = new LinkedList<>();
-    private final FlagContext flagContext = FlagContext.create();
+    private final List<ParsingContext<C>> parsingContexts = new ArrayList<>();
+    private @Nullable Map<String, ParsingContext<C>> parsingContextsByName;
+    private @Nullable Map<CommandComponent<C>, ParsingContext<C>> parsingContextsByComponent;
+    private int indexedParsingContexts;
+    private final FlagContext flagContext;
     private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
-    private final C commandSender;
-    private final boolean suggestions;
-    private final CaptionRegistry<C> captionRegistry;
+    private @Nullable CommandComponent<C> @Nullable [] slotComponents;
+    private @Nullable Object @Nullable [] componentValues;
+    /* Bit mask over the hashes of the names of the components that occupy slots, see nameBit(String) */
+    private long slotNames;
     private final CommandManager<C> commandManager;
-    private volatile @MonotonicNonNull Command<C> currentCommand = null;
+    private C commandSender;
+    private boolean suggestions;
+    private CaptionRegistry<C> captionRegistry;
+    private boolean recordingParsingContexts;
+    private volatile @Nullable Command<C> currentCommand = null;
+    private boolean released;
+    private @Nullable CommandContext<C> snapshot;
+    private @Nullable Map<CloudKey<?>, Object> allValues;
 
     /**
      * Creates a new command context instance.
@@ -97,6 +115,134 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         this.suggestions = suggestions;
         this.commandManager = commandManager;
         this.captionRegistry = commandManager.captionRegistry();
+        this.recordingParsingContexts = commandManager.parsingContextSampler().sample(commandSender, suggestions);
+        this.flagContext = FlagContext.create();
+    }
+
+    private CommandContext(final @NonNull CommandManager<C> commandManager) {
+        this.commandManager = commandManager;
+        this.flagContext = FlagContext.create();
+        this.released = true;
+    }
+
+    /**
+     * Returns a new context that has been released, and that throws {@link IllegalStateException} when it is used.
+     * <p>
+     * Results of dispatches whose context is returned to a pool expose such a context in place of the pooled one, so that
+     * the pooled context cannot be reached once it has been reused.
+     *
+     * @param <C>            command sender type
+     * @param commandManager the command manager
+     * @return the released context
+     */
+    @API(status = API.Status.INTERNAL)
+    public static <C> @NonNull CommandContext<C> released(final @NonNull CommandManager<C> commandManager) {
+        return new CommandContext<>(commandManager);
+    }
+
+    private CommandContext(final @NonNull CommandContext<C> context) {
+        this.commandSender = context.commandSender;
+        this.suggestions = context.suggestions;
+        this.commandManager = context.commandManager;
+        this.captionRegistry = context.captionRegistry;
+        this.recordingParsingContexts = context.recordingParsingContexts;
+        this.currentCommand = context.currentCommand;
+        this.parsingContexts.addAll(context.parsingContexts);
+        this.flagContext = context.flagContext.copy();
+        this.internalStorage.putAll(context.internalStorage);
+        if (context.slotComponents != null) {
+            this.slotComponents = context.slotComponents.clone();
+            this.componentValues = context.componentValues.clone();
+        }
+        this.slotNames = context.slotNames;
+    }
+
+    /**
+     * Returns a copy of this context that is not affected by later changes to this context. The same copy is returned
+     * until this context is modified.
+     * <p>
+     * The command tree hands snapshots to suggestion providers that may complete after the tree has moved on, so that
+     * they never observe the tree modifying the context, nor the context being released.
+     *
+     * @return the snapshot
+     */
+    @API(status = API.Status.INTERNAL)
+    public @NonNull CommandContext<C> snapshot() {
+        CommandContext<C> snapshot = this.snapshot;
+        if (snapshot == null) {
+            snapshot = new CommandContext<>(this);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a new copy of this context that is not affected by later changes to this context. Unlike a
+     * {@link #snapshot()}, the copy is not shared, so it may be modified.
+     * <p>
+     * Suggestion sessions copy the context of the node that they resume the walk of the command tree from.
+     *
+     * @return the copy
+     */
+    @API(status = API.Status.INTERNAL)
+    public @NonNull CommandContext<C> copy() {
+        return new CommandContext<>(this);
+    }
+
+    /**
+     * Prepares a context that has been {@link #release() released} to be used by a new dispatch.
+     *
+     * @param suggestions   whether the context is used for command suggestions
+     * @param commandSender the sender of the command
+     */
+    void reinitialize(final boolean suggestions, final @NonNull C commandSender) {
+        this.commandSender = commandSender;
+        this.suggestions = suggestions;
+        this.captionRegistry = this.commandManager.captionRegistry();
+        this.recordingParsingContexts = this.commandManager.parsingContextSampler().sample(commandSender, suggestions);
+        this.released = false;
+        this.snapshot = null;
+        this.allValues = null;
+    }
+
+    /**
+     * Clears all state held by this context so that it can be reused, and drops the reference to the sender.
+     *
+     * @return {@code false} if the context had already been released, else {@code true}
+     */
+    boolean release() {
+        if (this.released) {
+            return false;
+        }
+        this.released = true;
+        this.parsingContexts.clear();
+        this.parsingContextsByName = null;
+        this.parsingContextsByComponent = null;
+        this.indexedParsingContexts = 0;
+        this.flagContext.clear();
+        this.internalStorage.clear();
+        if (this.slotComponents != null) {
+            Arrays.fill(this.slotComponents, null);
+            Arrays.fill(this.componentValues, null);
+        }
+        this.slotNames = 0;
+        this.commandSender = null;
+        this.currentCommand = null;
+        this.snapshot = null;
+        this.allValues = null;
+        return true;
+    }
+
+    /**
+     * Throws if this context has been {@link #release() released}, as it may since have been cleared or reused by another
+     * dispatch.
+     *
+     * @throws IllegalStateException if the context has been released
+     */
+    private void checkNotReleased() {
+        if (this.released) {
+            throw new IllegalStateException("The command context has been released and can no longer be used");
+        }
     }
 
     /**
@@ -178,6 +324,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public @NonNull C sender() {
+        this.checkNotReleased();
         return this.commandSender;
     }
 
@@ -189,6 +336,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public boolean hasPermission(final @NonNull Permission permission) {
+        this.checkNotReleased();
         return this.commandManager.testPermission(this.commandSender, permission).allowed();
     }
 
@@ -200,6 +348,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.STABLE)
     public boolean hasPermission(final @NonNull String permission) {
+        this.checkNotReleased();
         return this.commandManager.hasPermission(this.commandSender, permission);
     }
 
@@ -217,7 +366,15 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull String key, final T value) {
-        this.internalStorage.put(CloudKey.of(key), value);
+        this.checkNotReleased();
+        this.snapshot = null;
+        this.allValues = null;
+        final int slot = this.slot(key);
+        if (slot != -1) {
+            this.componentValues[slot] = value;
+        } else {
+            this.internalStorage.put(CloudKey.of(key), value);
+        }
     }
 
     /**
@@ -225,7 +382,114 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> void store(final @NonNull CloudKey<T> key, final T value) {
-        this.internalStorage.put(key, value);
+        this.checkNotReleased();
+        this.snapshot = null;
+        this.allValues = null;
+        final int slot = this.slot(key.name());
+        if (slot != -1) {
+            this.componentValues[slot] = value;
+        } else {
+            this.internalStorage.put(key, value);
+        }
+    }
+
+    /**
+     * Stores the value parsed by the component of the given {@code node} in the {@link CommandNode#componentSlot() slot}
+     * assigned to the node.
+     * <p>
+     * If the node has no slot, or the slot already holds the value of a different component, then the value is stored using
+     * the name of the component instead.
+     *
+     * @param <T>   the type of the value
+     * @param node  the node containing the component
+     * @param value the value
+     */
+    @API(status = API.Status.INTERNAL)
+    public <T extends @NonNull Object> void store(final @NonNull CommandNode<C> node, final T value) {
+        this.checkNotReleased();
+        final CommandComponent<C> component = requireNonNull(node.component(), "component");
+        final int slot = node.componentSlot();
+        if (slot < 0) {
+            this.store(component.name(), value);
+            return;
+        }
+        this.snapshot = null;
+        this.allValues = null;
+        this.ensureSlotCapacity(Math.max(slot + 1, node.slotCount()));
+        final CommandComponent<C> slotComponent = this.slotComponents[slot];
+        if (slotComponent != component && !component.equals(slotComponent)) {
+            // The component may already occupy another slot if the tree shares nodes between commands
+            final int occupiedSlot = this.slot(component);
+            if (occupiedSlot != -1) {
+                this.componentValues[occupiedSlot] = value;
+                return;
+            } else if (slotComponent != null) {
+                this.store(component.name(), value);
+                return;
+            }
+        }
+        this.slotComponents[slot] = component;
+        this.componentValues[slot] = value;
+        this.slotNames |= nameBit(component.name());
+    }
+
+    /**
+     * Returns the value parsed by the given {@code component}.
+     *
+     * @param <T>       the type of the value
+     * @param component the component
+     * @return the value
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull CommandComponent<C> component) {
+        this.checkNotReleased();
+        final int slot = this.slot(component);
+        if (slot == -1) {
+            return this.optional(component.name());
+        }
+        @SuppressWarnings("unchecked") final T castedValue = (T) this.componentValues[slot];
+        return Optional.ofNullable(castedValue);
+    }
+
+    /**
+     * Returns the value parsed by the given {@code component}.
+     *
+     * @param <T>       the type of the value
+     * @param component the component
+     * @return the value
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull TypedCommandComponent<C, T> component) {
+        return this.optional((CommandComponent<C>) component);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull CloudKeyHolder<T> keyHolder) {
+        if (keyHolder instanceof CommandComponent) {
+            return this.optional((CommandComponent<C>) keyHolder);
+        }
+        return this.optional(keyHolder.key());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends @NonNull Object> T get(final @NonNull CloudKeyHolder<T> keyHolder) {
+        if (keyHolder instanceof CommandComponent) {
+            return this.<T>optional((CommandComponent<C>) keyHolder).orElseThrow(() -> new NullPointerException(
+                    String.format(
+                            "There is no object in the registry identified by the key '%s'",
+                            ((CommandComponent<C>) keyHolder).name()
+                    )
+            ));
+        }
+        return this.get(keyHolder.key());
     }
 
     /**
@@ -233,7 +497,8 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public boolean contains(final @NonNull CloudKey<?> key) {
-        return this.internalStorage.containsKey(key);
+        this.checkNotReleased();
+        return this.slot(key.name()) != -1 || this.internalStorage.containsKey(key);
     }
 
     /**
@@ -241,7 +506,9 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        this.checkNotReleased();
+        final int slot = this.slot(key.name());
+        final Object value = slot == -1 ? this.internalStorage.get(key) : this.componentValues[slot];
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -255,7 +522,9 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public <T extends @NonNull Object> @NonNull Optional<T> optional(final @NonNull String key) {
-        final Object value = this.internalStorage.get(CloudKey.of(key));
+        this.checkNotReleased();
+        final int slot = this.slot(key);
+        final Object value = slot == -1 ? this.internalStorage.get(CloudKey.of(key)) : this.componentValues[slot];
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -269,6 +538,14 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @Override
     public void remove(final @NonNull CloudKey<?> key) {
+        this.checkNotReleased();
+        this.snapshot = null;
+        this.allValues = null;
+        final int slot = this.slot(key.name());
+        if (slot != -1) {
+            this.slotComponents[slot] = null;
+            this.componentValues[slot] = null;
+        }
         this.internalStorage.remove(key);
     }
 
@@ -280,6 +557,14 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
             final @NonNull CloudKey<T> key,
             final @NonNull Function<CloudKey<T>, T> defaultFunction
     ) {
+        this.checkNotReleased();
+        this.snapshot = null;
+        this.allValues = null;
+        final int slot = this.slot(key.name());
+        if (slot != -1) {
+            @SuppressWarnings("unchecked") final T castedValue = (T) this.componentValues[slot];
+            return castedValue;
+        }
         @SuppressWarnings("unchecked") final T castedValue = (T) this.internalStorage.computeIfAbsent(
                 key,
                 k -> defaultFunction.apply((CloudKey<T>) k)
@@ -287,6 +572,80 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return castedValue;
     }
 
+    /**
+     * Returns the slot holding the value of the given {@code component}, or {@code -1} if no value has been stored in a slot.
+     * The slot assigned by the {@link #command()} is tried first, before falling back to a scan of the occupied slots.
+     *
+     * @param component the component
+     * @return the slot, or {@code -1}
+     */
+    private int slot(final @NonNull CommandComponent<C> component) {
+        if (this.slotComponents == null || (this.slotNames & nameBit(component.name())) == 0) {
+            return -1;
+        }
+        final Command<C> command = this.currentCommand;
+        if (command != null) {
+            final int slot = command.componentSlot(component);
+            if (slot >= 0 && slot < this.slotComponents.length && component.equals(this.slotComponents[slot])) {
+                return slot;
+            }
+        }
+        for (int slot = 0; slot < this.slotComponents.length; slot++) {
+            if (component.equals(this.slotComponents[slot])) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot holding the value of the component with the given {@code name}, or {@code -1} if no such value
+     * has been stored in a slot.
+     *
+     * @param name the component name
+     * @return the slot, or {@code -1}
+     */
+    private int slot(final @NonNull String name) {
+        if (this.slotComponents == null || (this.slotNames & nameBit(name)) == 0) {
+            // No component with a name that has the same hash bit occupies a slot, which is the case for most other keys
+            return -1;
+        }
+        for (int slot = 0; slot < this.slotComponents.length; slot++) {
+            final CommandComponent<C> component = this.slotComponents[slot];
+            if (component != null && component.name().equals(name)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the bit that represents the given component {@code name} in {@link #slotNames}.
+     *
+     * @param name the name
+     * @return the bit
+     */
+    private static long nameBit(final @NonNull String name) {
+        return 1L << (name.hashCode() & 63);
+    }
+
+    /**
+     * Makes sure that the slot arrays can hold at least {@code capacity} slots. The capacity is the number of components of
+     * the largest command that can be parsed from the current node, so the arrays are normally only allocated once.
+     *
+     * @param capacity the required capacity
+     */
+    @SuppressWarnings("unchecked")
+    private void ensureSlotCapacity(final int capacity) {
+        if (this.slotComponents == null) {
+            this.slotComponents = (CommandComponent<C>[]) new CommandComponent[capacity];
+            this.componentValues = new Object[capacity];
+        } else if (this.slotComponents.length < capacity) {
+            this.slotComponents = Arrays.copyOf(this.slotComponents, capacity);
+            this.componentValues = Arrays.copyOf(this.componentValues, capacity);
+        }
+    }
+
     /**
      * Returns a copy of the raw input.
      *
@@ -297,15 +656,30 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.getOrDefault("__raw_input__", CommandInput.empty()).copy();
     }
 
+    /**
+     * Returns whether the command tree records a {@link ParsingContext} for every component it attempts to parse using this
+     * context, as decided by the {@link CommandManager#parsingContextSampler()} when this context was created.
+     *
+     * @return {@code true} if parsing contexts are recorded
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public boolean isRecordingParsingContexts() {
+        return this.recordingParsingContexts;
+    }
+
     /**
      * Creates a parsing context instance for the given component.
+     * <p>
+     * The context is stored regardless of {@link #isRecordingParsingContexts()}.
      *
      * @param component the component
      * @return the created context
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> createParsingContext(final @NonNull CommandComponent<C> component) {
+        this.checkNotReleased();
         final ParsingContext<C> parsingContext = new ParsingContext<>(component);
+        this.snapshot = null;
         this.parsingContexts.add(parsingContext);
         return parsingContext;
     }
@@ -318,10 +692,13 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final @NonNull CommandComponent<C> component) {
-        return this.parsingContexts.stream()
-                .filter(context -> context.component().equals(component))
-                .findFirst()
-                .orElseThrow(NoSuchElementException::new);
+        this.checkNotReleased();
+        this.indexParsingContexts();
+        final ParsingContext<C> parsingContext = this.parsingContextsByComponent.get(component);
+        if (parsingContext == null) {
+            throw new NoSuchElementException();
+        }
+        return parsingContext;
     }
 
     /**
@@ -332,6 +709,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final int position) {
+        this.checkNotReleased();
         return this.parsingContexts.get(position);
     }
 
@@ -343,10 +721,30 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull ParsingContext<C> parsingContext(final String name) {
-        return this.parsingContexts.stream()
-                .filter(context -> context.component().name().equals(name))
-                .findFirst()
-                .orElseThrow(NoSuchElementException::new);
+        this.checkNotReleased();
+        this.indexParsingContexts();
+        final ParsingContext<C> parsingContext = this.parsingContextsByName.get(name);
+        if (parsingContext == null) {
+            throw new NoSuchElementException();
+        }
+        return parsingContext;
+    }
+
+    /**
+     * Adds the parsing contexts that have been created since the last lookup to the lookup indices. The indices are only
+     * built once a lookup is made, so that dispatches that never look up a parsing context do not pay for them.
+     */
+    private void indexParsingContexts() {
+        if (this.parsingContextsByName == null || this.parsingContextsByComponent == null) {
+            this.parsingContextsByName = new HashMap<>();
+            this.parsingContextsByComponent = new HashMap<>();
+        }
+        for (int i = this.indexedParsingContexts; i < this.parsingContexts.size(); i++) {
+            final ParsingContext<C> parsingContext = this.parsingContexts.get(i);
+            this.parsingContextsByName.putIfAbsent(parsingContext.component().name(), parsingContext);
+            this.parsingContextsByComponent.putIfAbsent(parsingContext.component(), parsingContext);
+        }
+        this.indexedParsingContexts = this.parsingContexts.size();
     }
 
     /**
@@ -356,6 +754,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.MAINTAINED)
     public @NonNull List<@NonNull ParsingContext<@NonNull C>> parsingContexts() {
+        this.checkNotReleased();
         return Collections.unmodifiableList(this.parsingContexts);
     }
 
@@ -365,6 +764,9 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      * @return flag context
      */
     public @NonNull FlagContext flags() {
+        this.checkNotReleased();
+        // The flag context may be modified by the caller
+        this.snapshot = null;
         return this.flagContext;
     }
 
@@ -375,6 +777,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      * @return the current command
      */
     public @NonNull Command<C> command() {
+        this.checkNotReleased();
         if (this.currentCommand == null) {
             throw new IllegalStateException("The current command is only available once a command has been parsed. Mainly from "
                     + "execution handlers and post processors.");
@@ -382,6 +785,17 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.currentCommand;
     }
 
+    /**
+     * Returns whether the current {@link Command} has been determined, in which case {@link #command()} will not throw.
+     *
+     * @return {@code true} if a command has been parsed
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public boolean hasCommand() {
+        this.checkNotReleased();
+        return this.currentCommand != null;
+    }
+
     /**
      * Sets the current {@link Command}.
      *
@@ -389,6 +803,7 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
      */
     @API(status = API.Status.INTERNAL)
     public void command(final @NonNull Command<C> command) {
+        this.snapshot = null;
         this.currentCommand = requireNonNull(command, "command");
     }
 
@@ -428,8 +843,32 @@ public class CommandContext<C> implements MutableCloudKeyContainer {
         return this.commandManager.parameterInjectorRegistry().getInjectable(type, this, AnnotationAccessor.empty());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Once component values have been stored in slots, the returned map is a copy that is cached until the values of
+     * the context change. Otherwise, the returned map is a view of the stored values.
+     */
     @Override
     public final @NonNull Map<CloudKey<?>, ? extends @NonNull Object> all() {
-        return Collections.unmodifiableMap(this.internalStorage);
+        this.checkNotReleased();
+        if (this.slotComponents == null) {
+            return Collections.unmodifiableMap(this.internalStorage);
+        }
+        // The merged map is cached until the next change, so that repeated calls don't copy the values every time
+        final Map<CloudKey<?>, Object> cached = this.allValues;
+        if (cached != null) {
+            return cached;
+        }
+        final Map<CloudKey<?>, Object> values = new HashMap<>(this.internalStorage);
+        for (int slot = 0; slot < this.slotComponents.length; slot++) {
+            final CommandComponent<C> component = this.slotComponents[slot];
+            if (component != null) {
+                values.put(component.key(), this.componentValues[slot]);
+            }
+        }
+        final Map<CloudKey<?>, Object> all = Collections.unmodifiableMap(values);
+        this.allValues = all;
+        return all;
     }
 }
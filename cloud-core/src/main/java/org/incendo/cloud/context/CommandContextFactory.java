@@ -43,4 +43,16 @@ public interface CommandContextFactory<C> {
      */
     @API(status = API.Status.STABLE)
     @NonNull CommandContext<C> create(boolean suggestions, @NonNull C sender);
+
+    /**
+     * Hands a context that was created by this factory back to it once it is no longer in use.
+     * <p>
+     * The default implementation does nothing. Factories that reuse contexts may clear the context and return it from a
+     * later call to {@link #create(boolean, Object)}, so the context must not be used after it has been released.
+     *
+     * @param context the context
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default void release(final @NonNull CommandContext<C> context) {
+    }
 }
@@ -35,6 +35,7 @@ public final class ParsingContext<C> {
 
     private final CommandComponent<@NonNull C> component;
     private @Nullable String consumed = null;
+    private @Nullable String consumedSource = null;
     private long startTime = -1;
     private long endTime = -1;
     private int consumedFrom = -1;
@@ -125,12 +126,25 @@ public final class ParsingContext<C> {
      */
     @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
     public void consumedInput(final @NonNull CommandInput original, final @NonNull CommandInput postParse) {
-        if (this.consumed != null) {
+        if (this.consumed != null || this.consumedSource != null) {
             throw new IllegalStateException();
         }
-        this.consumed = original.difference(postParse);
-        this.consumedFrom = original.cursor();
-        this.consumedTo = original.cursor() + this.consumed.length();
+        final String input = original.input();
+        final int from = original.cursor();
+        int to = postParse.cursor();
+        if (input != postParse.input() || to < from) {
+            this.consumed = original.difference(postParse);
+            this.consumedFrom = from;
+            this.consumedTo = from + this.consumed.length();
+            return;
+        }
+        /* Same as CommandInput#difference, but the substring is only taken once the consumed input is requested */
+        if (to > from && input.charAt(to - 1) == ' ') {
+            to--;
+        }
+        this.consumedSource = input;
+        this.consumedFrom = from;
+        this.consumedTo = to;
     }
 
     /**
@@ -140,6 +154,10 @@ public final class ParsingContext<C> {
      */
     @API(status = API.Status.STABLE)
     public @NonNull String consumedInput() {
+        if (this.consumed == null && this.consumedSource != null) {
+            this.consumed = this.consumedSource.substring(this.consumedFrom, this.consumedTo);
+            this.consumedSource = null;
+        }
         return Objects.requireNonNull(this.consumed);
     }
 
@@ -153,7 +171,10 @@ public final class ParsingContext<C> {
         if (!this.success || this.component.type() != CommandComponent.ComponentType.LITERAL) {
             return null;
         }
-        return this.consumed;
+        if (this.consumed == null && this.consumedSource == null) {
+            return null;
+        }
+        return this.consumedInput();
     }
 
     /**
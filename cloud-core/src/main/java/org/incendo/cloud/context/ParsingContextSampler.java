@@ -0,0 +1,87 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.context;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Decides whether a {@link CommandContext} records a {@link ParsingContext} for every component that the command tree
+ * attempts to parse.
+ * <p>
+ * Recording takes two timestamps and captures the consumed input for every attempt, including failed literal attempts.
+ * Platforms that never read {@link CommandContext#parsingContexts()} can disable recording, or sample it to keep
+ * the timings available for a fraction of the dispatches.
+ *
+ * @param <C> command sender type
+ * @see org.incendo.cloud.CommandManager#parsingContextSampler(ParsingContextSampler)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface ParsingContextSampler<C> {
+
+    /**
+     * Returns a sampler that records parsing contexts for every context. This is the default.
+     *
+     * @param <C> command sender type
+     * @return the sampler
+     */
+    static <C> @NonNull ParsingContextSampler<C> always() {
+        return (sender, suggestions) -> true;
+    }
+
+    /**
+     * Returns a sampler that never records parsing contexts.
+     *
+     * @param <C> command sender type
+     * @return the sampler
+     */
+    static <C> @NonNull ParsingContextSampler<C> never() {
+        return (sender, suggestions) -> false;
+    }
+
+    /**
+     * Returns a sampler that records parsing contexts for a random fraction of the contexts.
+     *
+     * @param <C>  command sender type
+     * @param rate the fraction of contexts that record parsing contexts, between {@code 0} and {@code 1}
+     * @return the sampler
+     */
+    static <C> @NonNull ParsingContextSampler<C> rate(final double rate) {
+        if (rate < 0D || rate > 1D) {
+            throw new IllegalArgumentException("The rate must be between 0 and 1, was " + rate);
+        }
+        return (sender, suggestions) -> ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * Returns whether a context that is being created for the given {@code sender} should record parsing contexts.
+     *
+     * @param sender      the command sender
+     * @param suggestions whether the context is created for suggestions
+     * @return {@code true} if parsing contexts should be recorded
+     */
+    boolean sample(@NonNull C sender, boolean suggestions);
+}
@@ -23,6 +23,9 @@
 //
 package org.incendo.cloud.context;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.CommandManager;
@@ -31,6 +34,8 @@ import org.incendo.cloud.CommandManager;
 public final class StandardCommandContextFactory<C> implements CommandContextFactory<C> {
 
     private final CommandManager<C> commandManager;
+    private final Queue<CommandContext<C>> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
 
     /**
      * Creates a new context factory.
@@ -43,10 +48,37 @@ public final class StandardCommandContextFactory<C> implements CommandContextFac
 
     @Override
     public @NonNull CommandContext<C> create(final boolean suggestions, final @NonNull C sender) {
+        if (this.commandManager.commandContextPoolSize() > 0) {
+            final CommandContext<C> context = this.pool.poll();
+            if (context != null) {
+                this.pooled.decrementAndGet();
+                context.reinitialize(suggestions, sender);
+                return context;
+            }
+        }
         return new CommandContext<C>(
                 suggestions,
                 sender,
                 this.commandManager
         );
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The context is only kept for reuse if {@link CommandManager#commandContextPoolSize()} is positive and the pool is not
+     * full yet.
+     */
+    @Override
+    public void release(final @NonNull CommandContext<C> context) {
+        final int poolSize = this.commandManager.commandContextPoolSize();
+        if (poolSize <= 0 || !context.release()) {
+            return;
+        }
+        if (this.pooled.incrementAndGet() > poolSize) {
+            this.pooled.decrementAndGet();
+            return;
+        }
+        this.pool.offer(context);
+    }
 }
@@ -24,6 +24,7 @@
 package org.incendo.cloud.exception;
 
 import java.util.List;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
@@ -50,6 +51,23 @@ public class ArgumentParseException extends CommandParseException {
         this.cause = throwable;
     }
 
+    /**
+     * Create a new command parse exception where the chain is computed once it is first requested.
+     *
+     * @param throwable            Exception that caused the parsing error
+     * @param commandSender        Command sender
+     * @param currentChainSupplier Supplier of the chain leading up to the exception
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public ArgumentParseException(
+            final @NonNull Throwable throwable,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandComponent<?>>> currentChainSupplier
+    ) {
+        super(commandSender, currentChainSupplier);
+        this.cause = throwable;
+    }
+
     /**
      * Get the cause of the exception
      *
@@ -25,6 +25,7 @@ package org.incendo.cloud.exception;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
@@ -37,7 +38,8 @@ import org.incendo.cloud.component.CommandComponent;
 public class CommandParseException extends IllegalArgumentException {
 
     private final Object commandSender;
-    private final List<CommandComponent<?>> currentChain;
+    private final Supplier<List<CommandComponent<?>>> currentChainSupplier;
+    private volatile List<CommandComponent<?>> currentChain;
 
     /**
      * Construct a new command parse exception
@@ -52,6 +54,22 @@ public class CommandParseException extends IllegalArgumentException {
     ) {
         this.commandSender = commandSender;
         this.currentChain = currentChain;
+        this.currentChainSupplier = null;
+    }
+
+    /**
+     * Construct a new command parse exception with a chain that is computed once it is first requested.
+     *
+     * @param commandSender        Sender who executed the command
+     * @param currentChainSupplier Supplier of the chain leading up to the exception
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    protected CommandParseException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<CommandComponent<?>>> currentChainSupplier
+    ) {
+        this.commandSender = commandSender;
+        this.currentChainSupplier = currentChainSupplier;
     }
 
     /**
@@ -69,6 +87,11 @@ public class CommandParseException extends IllegalArgumentException {
      * @return unmodifiable list of command arguments
      */
     public @NonNull List<@NonNull CommandComponent<?>> currentChain() {
-        return Collections.unmodifiableList(this.currentChain);
+        List<CommandComponent<?>> currentChain = this.currentChain;
+        if (currentChain == null) {
+            currentChain = this.currentChainSupplier.get();
+            this.currentChain = currentChain;
+        }
+        return Collections.unmodifiableList(currentChain);
     }
 }
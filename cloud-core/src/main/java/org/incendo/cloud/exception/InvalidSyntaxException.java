@@ -24,6 +24,7 @@
 package org.incendo.cloud.exception;
 
 import java.util.List;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.component.CommandComponent;
@@ -35,7 +36,8 @@ import org.incendo.cloud.component.CommandComponent;
 @API(status = API.Status.STABLE)
 public class InvalidSyntaxException extends CommandParseException {
 
-    private final String correctSyntax;
+    private final Supplier<String> correctSyntaxSupplier;
+    private volatile String correctSyntax;
 
     /**
      * Create a new invalid syntax exception instance
@@ -52,6 +54,25 @@ public class InvalidSyntaxException extends CommandParseException {
     ) {
         super(commandSender, currentChain);
         this.correctSyntax = correctSyntax;
+        this.correctSyntaxSupplier = null;
+    }
+
+    /**
+     * Create a new invalid syntax exception instance where the syntax and the chain are computed once
+     * they are first requested.
+     *
+     * @param correctSyntaxSupplier Supplier of the expected syntax
+     * @param commandSender         Sender that sent the command
+     * @param currentChainSupplier  Supplier of the chain leading up to issue
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public InvalidSyntaxException(
+            final @NonNull Supplier<@NonNull String> correctSyntaxSupplier,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandComponent<?>>> currentChainSupplier
+    ) {
+        super(commandSender, currentChainSupplier);
+        this.correctSyntaxSupplier = correctSyntaxSupplier;
     }
 
     /**
@@ -60,11 +81,16 @@ public class InvalidSyntaxException extends CommandParseException {
      * @return correct command syntax
      */
     public @NonNull String correctSyntax() {
-        return this.correctSyntax;
+        String correctSyntax = this.correctSyntax;
+        if (correctSyntax == null) {
+            correctSyntax = this.correctSyntaxSupplier.get();
+            this.correctSyntax = correctSyntax;
+        }
+        return correctSyntax;
     }
 
     @Override
     public final String getMessage() {
-        return String.format("Invalid command syntax. Correct syntax is: %s", this.correctSyntax);
+        return String.format("Invalid command syntax. Correct syntax is: %s", this.correctSyntax());
     }
 }
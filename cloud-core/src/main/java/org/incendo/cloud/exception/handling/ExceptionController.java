@@ -25,9 +25,9 @@ package org.incendo.cloud.exception.handling;
 
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
@@ -39,6 +39,8 @@ import org.incendo.cloud.context.CommandContext;
 
 /**
  * The controller handles registrations of exception handlers, as well as the routing of incoming exceptions to the handlers.
+ * <p>
+ * The resolved handler chain is cached per exception class, and routing does not acquire any locks.
  *
  * @param <C> the command sender type
  */
@@ -47,7 +49,8 @@ import org.incendo.cloud.context.CommandContext;
 public final class ExceptionController<C> {
 
     private final ExceptionContextFactory<C> exceptionContextFactory = new ExceptionContextFactory<>(this);
-    private final Map<@NonNull Type, @NonNull LinkedList<@NonNull ExceptionHandlerRegistration<C, ?>>> registrations;
+    private volatile Map<@NonNull Type, @NonNull List<@NonNull ExceptionHandlerRegistration<C, ?>>> registrations;
+    private volatile HandlerChains<C> handlerChains;
 
     /**
      * Unwraps a {@link CompletionException} recursively until a cause is encountered that is not a completion exception.
@@ -66,7 +69,8 @@ public final class ExceptionController<C> {
      * Creates a new exception controller.
      */
     public ExceptionController() {
-        this.registrations = new HashMap<>();
+        this.registrations = Collections.emptyMap();
+        this.handlerChains = new HandlerChains<>(this.registrations);
     }
 
     /**
@@ -91,26 +95,22 @@ public final class ExceptionController<C> {
     ) throws Throwable {
         final ExceptionContext<C, T> exceptionContext = this.exceptionContextFactory.createContext(commandContext, exception);
 
-        Class<?> exceptionClass = exception.getClass();
-        while (exceptionClass != Object.class) {
-            final List<ExceptionHandlerRegistration<C, ?>> registrations = this.registrations(exceptionClass);
-            for (final ExceptionHandlerRegistration<C, ?> registration : registrations) {
-                if (!((Predicate) registration.exceptionFilter()).test(exception)) {
-                    continue;
-                }
+        final List<ExceptionHandlerRegistration<C, ?>> registrations = this.handlerChains.get(exception.getClass());
+        for (final ExceptionHandlerRegistration<C, ?> registration : registrations) {
+            if (!((Predicate) registration.exceptionFilter()).test(exception)) {
+                continue;
+            }
 
-                try {
-                    ((ExceptionHandlerRegistration) registration).exceptionHandler().handle(exceptionContext);
-                } catch (final Throwable throwable) {
-                    if (throwable.equals(exception)) {
-                        continue;
-                    }
-                    // We try to handle the new exception instead.
-                    this.handleException(commandContext, throwable);
+            try {
+                ((ExceptionHandlerRegistration) registration).exceptionHandler().handle(exceptionContext);
+            } catch (final Throwable throwable) {
+                if (throwable.equals(exception)) {
+                    continue;
                 }
-                return;
+                // We try to handle the new exception instead.
+                this.handleException(commandContext, throwable);
             }
-            exceptionClass = exceptionClass.getSuperclass();
+            return;
         }
 
         // If nothing was able to handle the exception, then we re-throw.
@@ -130,8 +130,14 @@ public final class ExceptionController<C> {
     public synchronized <T extends Throwable> @This @NonNull ExceptionController<C> register(
             final @NonNull ExceptionHandlerRegistration<C, ? extends T> registration
     ) {
-        this.registrations.computeIfAbsent(registration.exceptionType().getType(), t -> new LinkedList<>())
-                .addFirst(registration);
+        final Type type = registration.exceptionType().getType();
+        final Map<Type, List<ExceptionHandlerRegistration<C, ?>>> registrations = new HashMap<>(this.registrations);
+        final List<ExceptionHandlerRegistration<C, ?>> existing = registrations.getOrDefault(type, Collections.emptyList());
+        final List<ExceptionHandlerRegistration<C, ?>> updated = new ArrayList<>(existing.size() + 1);
+        updated.add(registration);
+        updated.addAll(existing);
+        registrations.put(type, Collections.unmodifiableList(updated));
+        this.updateRegistrations(Collections.unmodifiableMap(registrations));
         return this;
     }
 
@@ -215,11 +221,44 @@ public final class ExceptionController<C> {
      * It is recommended that you register a handler for {@link Throwable} if you use this, to make sure that no uncaught
      * errors leak out of the controller.
      */
-    public void clearHandlers() {
-        this.registrations.clear();
+    public synchronized void clearHandlers() {
+        this.updateRegistrations(Collections.emptyMap());
     }
 
-    private @NonNull List<@NonNull ExceptionHandlerRegistration<C, ?>> registrations(final @NonNull Type type) {
-        return Collections.unmodifiableList(this.registrations.getOrDefault(type, new LinkedList<>()));
+    private void updateRegistrations(
+            final @NonNull Map<@NonNull Type, @NonNull List<@NonNull ExceptionHandlerRegistration<C, ?>>> registrations
+    ) {
+        this.registrations = registrations;
+        this.handlerChains = new HandlerChains<>(registrations);
+    }
+
+
+    /**
+     * Caches the flattened handler chain for each concrete exception class, ordered from the most specific
+     * type to the least specific type. A new instance is created whenever the registrations change.
+     *
+     * @param <C> the command sender type
+     */
+    private static final class HandlerChains<C> extends ClassValue<List<ExceptionHandlerRegistration<C, ?>>> {
+
+        private final Map<Type, List<ExceptionHandlerRegistration<C, ?>>> registrations;
+
+        private HandlerChains(final @NonNull Map<Type, List<ExceptionHandlerRegistration<C, ?>>> registrations) {
+            this.registrations = registrations;
+        }
+
+        @Override
+        protected @NonNull List<ExceptionHandlerRegistration<C, ?>> computeValue(final @NonNull Class<?> type) {
+            final List<ExceptionHandlerRegistration<C, ?>> chain = new ArrayList<>();
+            Class<?> exceptionClass = type;
+            while (exceptionClass != null && exceptionClass != Object.class) {
+                final List<ExceptionHandlerRegistration<C, ?>> registrations = this.registrations.get(exceptionClass);
+                if (registrations != null) {
+                    chain.addAll(registrations);
+                }
+                exceptionClass = exceptionClass.getSuperclass();
+            }
+            return chain.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(chain);
+        }
     }
 }
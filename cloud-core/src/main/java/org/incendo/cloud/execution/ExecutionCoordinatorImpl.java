@@ -30,11 +30,14 @@ import java.util.concurrent.Semaphore;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandTree;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.exception.CommandExecutionException;
 import org.incendo.cloud.exception.CommandParseException;
+import org.incendo.cloud.metrics.CommandMetrics;
+import org.incendo.cloud.metrics.CommandPhase;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
@@ -95,11 +98,39 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
-        return commandTree.parse(commandContext, commandInput, this.parsingExecutor)
+        final CommandMetrics<C> metrics = commandTree.commandManager().commandMetrics();
+        final boolean timed = metrics.enabled();
+        final long parsingStart = timed ? System.nanoTime() : 0L;
+        CompletableFuture<@Nullable Command<C>> parseFuture = commandTree.parse(commandContext, commandInput, this.parsingExecutor);
+        if (timed) {
+            parseFuture = parseFuture.whenComplete((command, throwable) -> metrics.record(
+                    commandContext,
+                    CommandMetrics.rootCommand(commandContext, throwable),
+                    CommandPhase.PARSING,
+                    System.nanoTime() - parsingStart,
+                    throwable == null
+            ));
+        }
+        return parseFuture
                 .thenApplyAsync(command -> {
-                    final boolean passedPostprocessing =
-                            commandTree.commandManager().postprocessContext(commandContext, command) == State.ACCEPTED;
-                    return Pair.of(command, passedPostprocessing);
+                    final long postprocessingStart = timed ? System.nanoTime() : 0L;
+                    boolean success = false;
+                    try {
+                        final boolean passedPostprocessing =
+                                commandTree.commandManager().postprocessContext(commandContext, command) == State.ACCEPTED;
+                        success = true;
+                        return Pair.of(command, passedPostprocessing);
+                    } finally {
+                        if (timed) {
+                            metrics.record(
+                                    commandContext,
+                                    command.rootComponent().name(),
+                                    CommandPhase.POSTPROCESSING,
+                                    System.nanoTime() - postprocessingStart,
+                                    success
+                            );
+                        }
+                    }
                 }, this.parsingExecutor)
                 .thenComposeAsync(preprocessResult -> {
                     if (!preprocessResult.second()) {
@@ -114,6 +145,7 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
                         }
                     }
 
+                    final long executionStart = timed ? System.nanoTime() : 0L;
                     CompletableFuture<CommandResult<C>> commandResultFuture = null;
                     try {
                         commandResultFuture = preprocessResult.first()
@@ -136,6 +168,16 @@ final class ExecutionCoordinatorImpl<C> implements ExecutionCoordinator<C> {
                                     }
                                 })
                                 .thenApply(v -> CommandResult.of(commandContext));
+                        if (timed) {
+                            final String rootCommand = preprocessResult.first().rootComponent().name();
+                            commandResultFuture = commandResultFuture.whenComplete((result, throwable) -> metrics.record(
+                                    commandContext,
+                                    rootCommand,
+                                    CommandPhase.EXECUTION,
+                                    System.nanoTime() - executionStart,
+                                    throwable == null
+                            ));
+                        }
                     } finally {
                         if (this.executionLock != null) {
                             if (commandResultFuture != null) {
@@ -23,8 +23,10 @@
 //
 package org.incendo.cloud.help;
 
+import java.util.List;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.help.result.CommandEntry;
 import org.incendo.cloud.help.result.HelpQueryResult;
 import org.incendo.cloud.help.result.IndexCommandResult;
 
@@ -51,4 +53,29 @@ public interface HelpHandler<C> {
     default @NonNull IndexCommandResult<C> queryRootIndex(final @NonNull C sender) {
         return (IndexCommandResult<C>) this.query(HelpQuery.of(sender, ""));
     }
+
+    /**
+     * Queries for a page of the root result. The page contains the entries of {@link #queryRootIndex(Object)} from
+     * {@code page * pageSize} (inclusive) to {@code (page + 1) * pageSize} (exclusive).
+     *
+     * @param sender   the sender
+     * @param page     the zero-indexed page
+     * @param pageSize the maximum number of entries per page
+     * @return the result containing the entries of the page
+     * @throws IllegalArgumentException if the {@code page} is negative or the {@code pageSize} is not positive
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull IndexCommandResult<C> queryRootIndex(final @NonNull C sender, final int page, final int pageSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("The page must not be negative");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive");
+        }
+        final IndexCommandResult<C> result = this.queryRootIndex(sender);
+        final List<CommandEntry<C>> entries = result.entries();
+        final int from = (int) Math.min((long) page * pageSize, entries.size());
+        final int to = (int) Math.min((long) from + pageSize, entries.size());
+        return IndexCommandResult.of(result.query(), entries.subList(from, to));
+    }
 }
@@ -43,6 +43,20 @@ public interface HelpHandlerFactory<C> {
         return new StandardHelpHandlerFactory<>(commandManager);
     }
 
+    /**
+     * Returns a factory that produces instances of {@link SearchingHelpHandler}.
+     *
+     * @param <C>            the command sender type
+     * @param commandManager the command manager
+     * @return the factory instance
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> @NonNull HelpHandlerFactory<C> searching(
+            final @NonNull CommandManager<C> commandManager
+    ) {
+        return filter -> new SearchingHelpHandler<>(commandManager, filter);
+    }
+
     /**
      * Creates a new help handler.
      *
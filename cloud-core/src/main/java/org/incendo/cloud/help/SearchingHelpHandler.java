@@ -0,0 +1,296 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.help;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.help.result.CommandEntry;
+import org.incendo.cloud.help.result.HelpQueryResult;
+import org.incendo.cloud.help.result.IndexCommandResult;
+import org.incendo.cloud.internal.CommandListener;
+
+/**
+ * Help handler that performs a full-text search over the registered commands.
+ * <p>
+ * The handler maintains an inverted index over the command literals, the argument names and the command descriptions.
+ * Queries are split into case-folded tokens, and the commands are ranked by the number of query tokens they match,
+ * and then by the weight of the matches. Literals weigh more than argument names, which weigh more than descriptions.
+ * A query token also matches indexed tokens that it is a prefix of, with a lower weight than an exact match.
+ * <p>
+ * The index is built when the handler is created, and is then updated incrementally when commands are registered or
+ * deleted. Searches only acquire a read lock on the index, so that they do not block each other. An empty query returns
+ * the root index.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public class SearchingHelpHandler<C> implements HelpHandler<C> {
+
+    private static final int WEIGHT_LITERAL = 4;
+    private static final int WEIGHT_ARGUMENT = 2;
+    private static final int WEIGHT_DESCRIPTION = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Command<C>, Integer>> index = new TreeMap<>();
+    private final Map<Command<C>, Map<String, Integer>> indexedCommands = new IdentityHashMap<>();
+    private final Map<Command<C>, String> syntax = new IdentityHashMap<>();
+    private final CommandManager<C> commandManager;
+    private final CommandPredicate<C> commandFilter;
+    private final StandardHelpHandler<C> rootHandler;
+    /* Only weakly referenced by the command manager, so that it is released together with this handler */
+    private final CommandListener<C> commandListener = new CommandListener<C>() {
+        @Override
+        public void commandsRegistered(final @NonNull Collection<@NonNull Command<C>> commands) {
+            SearchingHelpHandler.this.add(commands);
+        }
+
+        @Override
+        public void commandsDeleted(final @NonNull Collection<@NonNull Command<C>> commands) {
+            SearchingHelpHandler.this.remove(commands);
+        }
+    };
+
+    /**
+     * Creates a new searching help handler.
+     *
+     * @param commandManager   the command manager to get commands from
+     * @param commandPredicate filter that determines which commands are applicable
+     */
+    public SearchingHelpHandler(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull CommandPredicate<C> commandPredicate
+    ) {
+        this.commandManager = commandManager;
+        this.commandFilter = commandPredicate;
+        this.rootHandler = new StandardHelpHandler<>(commandManager, commandPredicate);
+        // The listener is registered first, so that no command that is registered concurrently is missed
+        commandManager.registerCommandListener(this.commandListener);
+        this.add(new ArrayList<>(commandManager.commands()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Non-empty queries return an {@link IndexCommandResult} containing the matching commands in ranked order.
+     */
+    @Override
+    public @NonNull HelpQueryResult<C> query(final @NonNull HelpQuery<C> query) {
+        if (tokenize(query.query()).isEmpty()) {
+            return this.rootHandler.query(query);
+        }
+        return IndexCommandResult.of(query, this.search(query.sender(), query.query(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public @NonNull IndexCommandResult<C> queryRootIndex(final @NonNull C sender, final int page, final int pageSize) {
+        return this.rootHandler.queryRootIndex(sender, page, pageSize);
+    }
+
+    /**
+     * Returns up to {@code limit} commands that match the given {@code query} and that the {@code sender}
+     * is allowed to use, in ranked order.
+     *
+     * @param sender the sender
+     * @param query  the search query
+     * @param limit  the maximum number of results
+     * @return the matching entries
+     */
+    public @NonNull List<@NonNull CommandEntry<C>> search(
+            final @NonNull C sender,
+            final @NonNull String query,
+            final int limit
+    ) {
+        final List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        final Map<Command<C>, Ranking> rankings = new HashMap<>();
+        this.lock.readLock().lock();
+        try {
+            for (final String token : tokens) {
+                final Map<Command<C>, Integer> matches = new HashMap<>();
+                for (final Map.Entry<String, Map<Command<C>, Integer>> entry
+                        : this.index.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+                    final boolean exact = entry.getKey().equals(token);
+                    for (final Map.Entry<Command<C>, Integer> posting : entry.getValue().entrySet()) {
+                        /* Exact matches weigh twice as much as prefix matches */
+                        final int weight = exact ? posting.getValue() * 2 : posting.getValue();
+                        matches.merge(posting.getKey(), weight, Math::max);
+                    }
+                }
+                for (final Map.Entry<Command<C>, Integer> match : matches.entrySet()) {
+                    rankings.computeIfAbsent(match.getKey(), command -> new Ranking(this.syntax.get(command)))
+                            .add(match.getValue());
+                }
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        final List<Map.Entry<Command<C>, Ranking>> ranked = new ArrayList<>(rankings.entrySet());
+        ranked.sort((first, second) -> {
+            final int result = second.getValue().compareTo(first.getValue());
+            if (result != 0) {
+                return result;
+            }
+            return first.getValue().syntax.compareTo(second.getValue().syntax);
+        });
+
+        final List<CommandEntry<C>> entries = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (final Map.Entry<Command<C>, Ranking> entry : ranked) {
+            if (entries.size() >= limit) {
+                break;
+            }
+            final Command<C> command = entry.getKey();
+            if (!this.rootHandler.isAllowed(sender, command)) {
+                continue;
+            }
+            entries.add(CommandEntry.of(
+                    command,
+                    this.commandManager.commandSyntaxFormatter().apply(sender, command.components(), null)
+            ));
+        }
+        return entries;
+    }
+
+    private void add(final @NonNull Collection<@NonNull Command<C>> commands) {
+        this.lock.writeLock().lock();
+        try {
+            for (final Command<C> command : commands) {
+                if (this.indexedCommands.containsKey(command) || !this.commandFilter.test(command)) {
+                    continue;
+                }
+                final Map<String, Integer> tokens = tokens(command);
+                this.indexedCommands.put(command, tokens);
+                this.syntax.put(command, command.toString());
+                for (final Map.Entry<String, Integer> token : tokens.entrySet()) {
+                    this.index.computeIfAbsent(token.getKey(), key -> new IdentityHashMap<>()).put(command, token.getValue());
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(final @NonNull Collection<@NonNull Command<C>> commands) {
+        this.lock.writeLock().lock();
+        try {
+            for (final Command<C> command : commands) {
+                final Map<String, Integer> tokens = this.indexedCommands.remove(command);
+                if (tokens == null) {
+                    continue;
+                }
+                this.syntax.remove(command);
+                for (final String token : tokens.keySet()) {
+                    final Map<Command<C>, Integer> postings = this.index.get(token);
+                    postings.remove(command);
+                    if (postings.isEmpty()) {
+                        this.index.remove(token);
+                    }
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static <C> @NonNull Map<@NonNull String, @NonNull Integer> tokens(final @NonNull Command<C> command) {
+        final Map<String, Integer> tokens = new HashMap<>();
+        for (final CommandComponent<C> component : command.components()) {
+            if (component.type() == CommandComponent.ComponentType.LITERAL) {
+                for (final String alias : component.aliases()) {
+                    addTokens(tokens, alias, WEIGHT_LITERAL);
+                }
+            } else {
+                addTokens(tokens, component.name(), WEIGHT_ARGUMENT);
+            }
+        }
+        addTokens(tokens, command.commandDescription().description().textDescription(), WEIGHT_DESCRIPTION);
+        addTokens(tokens, command.commandDescription().verboseDescription().textDescription(), WEIGHT_DESCRIPTION);
+        return tokens;
+    }
+
+    private static void addTokens(final @NonNull Map<String, Integer> tokens, final @NonNull String text, final int weight) {
+        for (final String token : tokenize(text)) {
+            tokens.merge(token, weight, Math::max);
+        }
+    }
+
+    private static @NonNull List<@NonNull String> tokenize(final @NonNull String text) {
+        final List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) {
+                if (start == -1) {
+                    start = i;
+                }
+            } else if (start != -1) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+
+    private static final class Ranking implements Comparable<Ranking> {
+
+        private final String syntax;
+        private int matchedTokens;
+        private int score;
+
+        private Ranking(final @NonNull String syntax) {
+            this.syntax = syntax;
+        }
+
+        private void add(final int weight) {
+            this.matchedTokens++;
+            this.score += weight;
+        }
+
+        @Override
+        public int compareTo(final @NonNull Ranking other) {
+            if (this.matchedTokens != other.matchedTokens) {
+                return Integer.compare(this.matchedTokens, other.matchedTokens);
+            }
+            return Integer.compare(this.score, other.score);
+        }
+    }
+}
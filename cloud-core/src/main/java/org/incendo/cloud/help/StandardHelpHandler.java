@@ -24,15 +24,20 @@
 package org.incendo.cloud.help;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.component.CommandComponent;
@@ -43,12 +48,25 @@ import org.incendo.cloud.help.result.MultipleCommandResult;
 import org.incendo.cloud.help.result.VerboseCommandResult;
 import org.incendo.cloud.internal.CommandInputTokenizer;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.syntax.StandardCommandSyntaxFormatter;
 
+/**
+ * Standard implementation of {@link HelpHandler}.
+ * <p>
+ * When the manager uses a {@link StandardCommandSyntaxFormatter}, the handler keeps an index of the applicable commands
+ * with their syntax, sorted by syntax, together with a prefix trie over the root command aliases. The index is rebuilt
+ * when the {@link CommandManager#commandRevision() registered commands change}, and permissions are only checked for
+ * the commands that are returned. The index is not used for queries when {@link #commands(Object)} is overridden.
+ *
+ * @param <C> command sender type
+ */
 @API(status = API.Status.STABLE)
 public class StandardHelpHandler<C> implements HelpHandler<C> {
 
     private final CommandManager<C> commandManager;
     private final CommandPredicate<C> commandFilter;
+    private final boolean commandsOverridden;
+    private volatile HelpIndex<C> index;
 
     /**
      * Creates a new help handler.
@@ -62,6 +80,7 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
     ) {
         this.commandManager = commandManager;
         this.commandFilter = commandPredicate;
+        this.commandsOverridden = overridesCommands(this.getClass());
     }
 
     /**
@@ -69,16 +88,28 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
      */
     @Override
     public @NonNull HelpQueryResult<C> query(final @NonNull HelpQuery<C> query) {
-        final List<CommandEntry<C>> commands = this.commands(query.sender());
-
         // If the query is empty, then we return all commands that they have permission to see.
         if (query.query().replace(" ", "").isEmpty()) {
-            return IndexCommandResult.of(query, commands);
+            return IndexCommandResult.of(query, this.commands(query.sender()));
         }
 
         final List<String> queryFragments = new CommandInputTokenizer(query.query()).tokenize();
         final String rootFragment = queryFragments.get(0);
 
+        final HelpIndex<C> helpIndex = this.queryIndex();
+        final List<CommandEntry<C>> commands;
+        if (helpIndex == null) {
+            commands = this.commands(query.sender());
+        } else {
+            /* Only the commands with a matching root alias need to be permission checked */
+            commands = new ArrayList<>();
+            for (final CommandEntry<C> entry : helpIndex.entriesWithPrefix(rootFragment.toLowerCase(Locale.ENGLISH))) {
+                if (this.isAllowed(query.sender(), entry.command())) {
+                    commands.add(entry);
+                }
+            }
+        }
+
         /* Determine which command we are querying for */
         final List<Command<C>> availableCommands = new LinkedList<>();
         final Set<String> availableCommandLabels = new HashSet<>();
@@ -116,6 +147,16 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
         /* No command found, return all possible commands */
         if (availableCommands.isEmpty()) {
             return IndexCommandResult.of(query, Collections.emptyList());
+        } else if ((!exactMatch || availableCommandLabels.size() > 1) && helpIndex != null) {
+            /* The index entries are already sorted, and they have been permission checked above */
+            final Set<Command<C>> available = new HashSet<>(availableCommands);
+            final List<CommandEntry<C>> entries = new ArrayList<>(available.size());
+            for (final CommandEntry<C> entry : commands) {
+                if (available.contains(entry.command())) {
+                    entries.add(entry);
+                }
+            }
+            return IndexCommandResult.of(query, entries);
         } else if (!exactMatch || availableCommandLabels.size() > 1) {
             return IndexCommandResult.of(
                     query,
@@ -217,6 +258,16 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
     protected @NonNull List<@NonNull CommandEntry<C>> commands(
             final @NonNull C sender
     ) {
+        final HelpIndex<C> index = this.index();
+        if (index != null) {
+            final List<CommandEntry<C>> entries = new ArrayList<>();
+            for (final CommandEntry<C> entry : index.entries) {
+                if (this.isAllowed(sender, entry.command())) {
+                    entries.add(entry);
+                }
+            }
+            return entries;
+        }
         return this.commandManager.commands()
                 .stream()
                 .filter(this.commandFilter)
@@ -229,7 +280,104 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
                 .collect(Collectors.toList());
     }
 
-    private boolean isAllowed(final C sender, final Command<C> command) {
+    /**
+     * Returns a page of the root index. This is equivalent to a page of {@link #queryRootIndex(Object)}, but
+     * only the commands up to the end of the requested page are permission checked.
+     *
+     * @param sender   the sender
+     * @param page     the zero-indexed page
+     * @param pageSize the maximum number of entries per page
+     * @return the result containing the entries of the page
+     * @throws IllegalArgumentException if the {@code page} is negative or the {@code pageSize} is not positive
+     */
+    @Override
+    @API(status = API.Status.EXPERIMENTAL)
+    public @NonNull IndexCommandResult<C> queryRootIndex(final @NonNull C sender, final int page, final int pageSize) {
+        if (page < 0) {
+            throw new IllegalArgumentException("The page must not be negative");
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive");
+        }
+        final HelpIndex<C> index = this.queryIndex();
+        if (index == null) {
+            return HelpHandler.super.queryRootIndex(sender, page, pageSize);
+        }
+        final long skip = (long) page * pageSize;
+        final List<CommandEntry<C>> entries = new ArrayList<>(Math.min(pageSize, index.entries.size()));
+        long allowed = 0;
+        for (final CommandEntry<C> entry : index.entries) {
+            if (entries.size() >= pageSize) {
+                break;
+            }
+            if (!this.isAllowed(sender, entry.command())) {
+                continue;
+            }
+            if (allowed++ >= skip) {
+                entries.add(entry);
+            }
+        }
+        return IndexCommandResult.of(HelpQuery.of(sender, ""), entries);
+    }
+
+    /**
+     * Returns the index to answer queries from directly, or {@code null} if the queries should go through
+     * {@link #commands(Object)}, which is the case when a subclass changes which commands are applicable.
+     *
+     * @return the index, or {@code null}
+     */
+    private @Nullable HelpIndex<C> queryIndex() {
+        if (this.commandsOverridden) {
+            return null;
+        }
+        return this.index();
+    }
+
+    private static boolean overridesCommands(final @NonNull Class<?> clazz) {
+        for (Class<?> current = clazz; current != StandardHelpHandler.class; current = current.getSuperclass()) {
+            try {
+                /* Overrides with a concrete sender type declare a bridge method with the erased signature */
+                current.getDeclaredMethod("commands", Object.class);
+                return true;
+            } catch (final NoSuchMethodException ignored) {
+                /* Not declared by this class, continue with the superclass */
+            }
+        }
+        return false;
+    }
+
+    private @Nullable HelpIndex<C> index() {
+        if (!(this.commandManager.commandSyntaxFormatter() instanceof StandardCommandSyntaxFormatter)) {
+            /* Other formatters might produce different syntax strings for different senders */
+            return null;
+        }
+        final long revision = this.commandManager.commandRevision();
+        HelpIndex<C> index = this.index;
+        if (index == null || index.revision != revision) {
+            index = new HelpIndex<>(
+                    revision,
+                    this.commandManager.commands()
+                            .stream()
+                            .filter(this.commandFilter)
+                            .map(command -> CommandEntry.of(
+                                    command,
+                                    this.commandManager.commandSyntaxFormatter().apply(null, command.components(), null)
+                            )).sorted()
+                            .collect(Collectors.toList())
+            );
+            this.index = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns whether the {@code sender} is of the required sender type and has the permission to use the {@code command}.
+     *
+     * @param sender  the sender
+     * @param command the command
+     * @return whether the sender is allowed to use the command
+     */
+    boolean isAllowed(final C sender, final Command<C> command) {
         if (command.senderType().isPresent()) {
             if (!GenericTypeReflector.isSuperType(command.senderType().get().getType(), sender.getClass())) {
                 return false;
@@ -263,4 +411,67 @@ public class StandardHelpHandler<C> implements HelpHandler<C> {
 
         return false;
     }
+
+
+    private static final class HelpIndex<C> {
+
+        private final long revision;
+        private final List<CommandEntry<C>> entries;
+        private final TrieNode root = new TrieNode();
+
+        private HelpIndex(final long revision, final @NonNull List<@NonNull CommandEntry<C>> entries) {
+            this.revision = revision;
+            this.entries = Collections.unmodifiableList(entries);
+            for (int i = 0; i < entries.size(); i++) {
+                for (final String alias : entries.get(i).command().rootComponent().aliases()) {
+                    TrieNode node = this.root;
+                    final String lowerCaseAlias = alias.toLowerCase(Locale.ENGLISH);
+                    for (int j = 0; j < lowerCaseAlias.length(); j++) {
+                        node = node.children.computeIfAbsent(lowerCaseAlias.charAt(j), c -> new TrieNode());
+                        node.add(i);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the entries that have a root alias that starts with the given {@code prefix}, in sorted order.
+         *
+         * @param prefix the lower case prefix
+         * @return the entries
+         */
+        private @NonNull List<@NonNull CommandEntry<C>> entriesWithPrefix(final @NonNull String prefix) {
+            TrieNode node = this.root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            final List<CommandEntry<C>> entries = new ArrayList<>(node.size);
+            for (int i = 0; i < node.size; i++) {
+                entries.add(this.entries.get(node.indices[i]));
+            }
+            return entries;
+        }
+    }
+
+
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private int[] indices = new int[1];
+        private int size;
+
+        private void add(final int index) {
+            /* Entries are added in increasing order, so duplicates from multiple aliases are always adjacent */
+            if (this.size > 0 && this.indices[this.size - 1] == index) {
+                return;
+            }
+            if (this.size == this.indices.length) {
+                this.indices = Arrays.copyOf(this.indices, this.size * 2);
+            }
+            this.indices[this.size++] = index;
+        }
+    }
 }
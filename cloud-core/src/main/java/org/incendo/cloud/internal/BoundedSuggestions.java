@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Collects at most a fixed number of suggestions.
+ * <p>
+ * Without a comparator the first suggestions that are offered are kept, and the collector reports itself as
+ * {@link #isFull() full} once the limit has been reached. With a comparator the collector keeps the smallest suggestions
+ * in a bounded heap, so that every offered suggestion still has to be considered.
+ *
+ * @param <S> suggestion type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class BoundedSuggestions<S> {
+
+    private final int limit;
+    private final @Nullable Comparator<? super S> comparator;
+    private final List<S> suggestions;
+    private final @Nullable PriorityQueue<S> heap;
+
+    /**
+     * Creates a new collector.
+     *
+     * @param limit      the maximum number of suggestions to keep
+     * @param comparator the comparator that decides which suggestions are kept, or {@code null} to keep the first
+     *                   suggestions that are offered
+     */
+    public BoundedSuggestions(final int limit, final @Nullable Comparator<? super S> comparator) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The suggestion limit may not be negative");
+        }
+        this.limit = limit;
+        this.comparator = comparator;
+        if (comparator == null) {
+            this.suggestions = new ArrayList<>(Math.min(limit, 64));
+            this.heap = null;
+        } else {
+            this.suggestions = Collections.emptyList();
+            // The head of the heap is the largest kept suggestion, which is the first to be evicted
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(limit, 64)), comparator.reversed());
+        }
+    }
+
+    /**
+     * Returns the given {@code suggestions} sorted using the {@code comparator}, and truncated to the {@code limit}.
+     *
+     * @param <S>         suggestion type
+     * @param suggestions the suggestions
+     * @param limit       the maximum number of suggestions to keep
+     * @param comparator  the comparator, or {@code null} to keep the first suggestions
+     * @return the bounded suggestions
+     */
+    public static <S> @NonNull List<S> bound(
+            final @NonNull List<S> suggestions,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
+    ) {
+        if (comparator == null && suggestions.size() <= limit) {
+            return suggestions;
+        }
+        final BoundedSuggestions<S> bounded = new BoundedSuggestions<>(limit, comparator);
+        for (final S suggestion : suggestions) {
+            if (!bounded.offer(suggestion)) {
+                break;
+            }
+        }
+        return bounded.toList();
+    }
+
+    /**
+     * Offers the given {@code suggestion} to the collector.
+     *
+     * @param suggestion the suggestion
+     * @return {@code false} if the collector is full and will not accept any further suggestions, else {@code true}
+     */
+    public synchronized boolean offer(final @NonNull S suggestion) {
+        if (this.heap == null) {
+            if (this.suggestions.size() < this.limit) {
+                this.suggestions.add(suggestion);
+            }
+            return this.suggestions.size() < this.limit;
+        }
+        if (this.limit == 0) {
+            return false;
+        }
+        if (this.heap.size() < this.limit) {
+            this.heap.add(suggestion);
+        } else if (this.comparator.compare(suggestion, this.heap.peek()) < 0) {
+            this.heap.poll();
+            this.heap.add(suggestion);
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the collector will discard every further suggestion.
+     *
+     * @return {@code true} if the collector is full
+     */
+    public synchronized boolean isFull() {
+        return this.heap == null ? this.suggestions.size() >= this.limit : this.limit == 0;
+    }
+
+    /**
+     * Returns the collected suggestions, sorted using the comparator if one was given.
+     *
+     * @return the suggestions
+     */
+    public synchronized @NonNull List<S> toList() {
+        if (this.heap == null) {
+            return new ArrayList<>(this.suggestions);
+        }
+        final List<S> list = new ArrayList<>(this.heap);
+        list.sort(this.comparator);
+        return list;
+    }
+}
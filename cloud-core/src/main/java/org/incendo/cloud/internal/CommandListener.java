@@ -0,0 +1,57 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.Collection;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+
+/**
+ * Listener that is notified when commands are registered to or deleted from a
+ * {@link org.incendo.cloud.CommandManager}, so that data derived from the registered commands can be updated
+ * incrementally.
+ * <p>
+ * The listeners are invoked on the thread that changed the commands, after the changes have been made.
+ *
+ * @param <C> command sender type
+ * @see org.incendo.cloud.CommandManager#registerCommandListener(CommandListener)
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public interface CommandListener<C> {
+
+    /**
+     * Invoked when the given {@code commands} have been registered.
+     *
+     * @param commands the registered commands
+     */
+    void commandsRegistered(@NonNull Collection<@NonNull Command<C>> commands);
+
+    /**
+     * Invoked when the given {@code commands} have been deleted.
+     *
+     * @param commands the deleted commands
+     */
+    void commandsDeleted(@NonNull Collection<@NonNull Command<C>> commands);
+}
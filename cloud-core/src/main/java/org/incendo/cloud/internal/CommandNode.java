@@ -78,6 +78,8 @@ public final class CommandNode<C> {
     private final CommandComponent<C> component;
     private CommandNode<C> parent;
     private Command<C> command;
+    private int componentSlot = -1;
+    private int slotCount;
 
     /**
      * Creates a new command node
@@ -182,6 +184,56 @@ public final class CommandNode<C> {
         this.command = command;
     }
 
+    /**
+     * Removes the executable command of this node.
+     * <p>
+     * This is used to roll back a command insertion that failed verification.
+     */
+    @API(status = API.Status.INTERNAL)
+    public void clearCommand() {
+        this.command = null;
+    }
+
+    /**
+     * Returns the slot that the value parsed by the {@link #component()} is stored in.
+     *
+     * @return the slot, or {@code -1} if no slot has been assigned
+     * @see Command#componentSlot(CommandComponent)
+     */
+    public int componentSlot() {
+        return this.componentSlot;
+    }
+
+    /**
+     * Sets the slot that the value parsed by the {@link #component()} is stored in.
+     *
+     * @param componentSlot the slot
+     */
+    @API(status = API.Status.INTERNAL)
+    public void componentSlot(final int componentSlot) {
+        this.componentSlot = componentSlot;
+    }
+
+    /**
+     * Returns the number of slots needed to store the values of any command that passes through this node, which is the
+     * largest number of {@link Command#components() components} of those commands.
+     *
+     * @return the number of slots
+     */
+    public int slotCount() {
+        return this.slotCount;
+    }
+
+    /**
+     * Records that a command with the given number of components passes through this node.
+     *
+     * @param slotCount the number of components of the command
+     */
+    @API(status = API.Status.INTERNAL)
+    public void slotCount(final int slotCount) {
+        this.slotCount = Math.max(this.slotCount, slotCount);
+    }
+
     /**
      * Returns the parent node
      *
@@ -23,30 +23,103 @@
 //
 package org.incendo.cloud.internal;
 
+import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionMapper;
 import org.incendo.cloud.suggestion.SuggestionProcessor;
+import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.suggestion.Suggestions;
 
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public final class SuggestionContext<C, S extends Suggestion> {
 
+    /**
+     * Key used to pass the comparator given to
+     * {@link org.incendo.cloud.suggestion.SuggestionFactory#suggest(CommandContext, String, int, Comparator)} to the
+     * command tree.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final CloudKey<Comparator<?>> COMPARATOR_KEY = CloudKey.of(
+            "__suggestion_comparator__",
+            (TypeToken) TypeToken.get(Comparator.class)
+    );
+
+    /**
+     * Key that, when present in the command context of an unbounded request, makes {@link #makeSuggestions()} return the
+     * suggestions without applying the suggestion processor, so that the caller can process them itself.
+     */
+    public static final CloudKey<Boolean> DEFER_PROCESSING_KEY = CloudKey.of("__suggestion_defer_processing__", Boolean.class);
+
+    /**
+     * Key that {@link #makeSuggestions()} stores in the command context of a request with deferred processing, holding
+     * whether every suggestion provider that was queried {@link SuggestionProvider#narrowsByPrefix() narrows by prefix}.
+     */
+    public static final CloudKey<Boolean> NARROWS_BY_PREFIX_KEY = CloudKey.of("__suggestion_narrows_by_prefix__", Boolean.class);
+
+    /**
+     * Key that {@link #makeSuggestions()} stores in the command context of a request with deferred processing, holding the
+     * deepest {@link ResumePoint} from which the walk of the command tree can be resumed for an input that keeps the
+     * tokens before it. The key is removed if there is no such point.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final CloudKey<ResumePoint<?>> RESUME_POINT_KEY = CloudKey.of(
+            "__suggestion_resume_point__",
+            (TypeToken) TypeToken.get(ResumePoint.class)
+    );
+
+    /**
+     * Key used to make the command tree resume the walk from the given {@link ResumePoint} rather than starting from the
+     * root. The command context must be a {@link CommandContext#copy() copy} of the context of the resume point.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final CloudKey<ResumePoint<?>> RESUME_FROM_KEY = CloudKey.of(
+            "__suggestion_resume_from__",
+            (TypeToken) TypeToken.get(ResumePoint.class)
+    );
+
+    /**
+     * Key used to pass a {@link SuggestionSink} to the command tree, in which case suggestions are delivered to the sink
+     * as soon as their provider has completed instead of being collected.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static final CloudKey<SuggestionSink<?>> SINK_KEY = CloudKey.of(
+            "__suggestion_sink__",
+            (TypeToken) TypeToken.get(SuggestionSink.class)
+    );
+
     private final List<S> suggestions = new ArrayList<>();
+    private final List<CompletableFuture<? extends Iterable<? extends Suggestion>>> pendingSuggestions = new ArrayList<>();
     private final CommandPreprocessingContext<C> preprocessingContext;
     private final SuggestionMapper<S> mapper;
     private final SuggestionProcessor<C> processor;
     private final CommandContext<C> commandContext;
+    private final @Nullable BoundedSuggestions<S> bounded;
+    private final @Nullable SuggestionSink<S> sink;
+    private int addedSuggestions;
+    private volatile boolean narrowsByPrefix = true;
+    private boolean resumable;
+    private @Nullable ResumePoint<C> resumePoint;
+    private int resumeDepth;
+    private int depth;
+    private boolean queriedSinceResumePoint;
 
     /**
      * Creates a new suggestion context
@@ -61,11 +134,44 @@ public final class SuggestionContext<C, S extends Suggestion> {
             final @NonNull CommandContext<C> commandContext,
             final @NonNull CommandInput commandInput,
             final @NonNull SuggestionMapper<S> mapper
+    ) {
+        this(processor, commandContext, commandInput, mapper, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a new suggestion context that keeps at most {@code limit} suggestions.
+     * <p>
+     * If the context is bounded, then the {@code processor} is applied to the suggestions as they are added rather than
+     * to all suggestions at once, so that discarded suggestions are never collected.
+     *
+     * @param processor      the suggestion processor
+     * @param commandContext the command context
+     * @param commandInput   the command input
+     * @param mapper         the suggestion mapper
+     * @param limit          the maximum number of suggestions, {@link Integer#MAX_VALUE} for no limit
+     * @param comparator     the comparator that decides which suggestions are kept, or {@code null} to keep the first
+     *                       suggestions
+     */
+    @SuppressWarnings("unchecked")
+    public SuggestionContext(
+            final @NonNull SuggestionProcessor<C> processor,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput,
+            final @NonNull SuggestionMapper<S> mapper,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
     ) {
         this.processor = processor;
         this.commandContext = commandContext;
         this.preprocessingContext = CommandPreprocessingContext.of(this.commandContext, commandInput);
         this.mapper = mapper;
+        if (limit == Integer.MAX_VALUE && comparator == null) {
+            this.bounded = null;
+        } else {
+            this.bounded = new BoundedSuggestions<>(limit, comparator);
+        }
+        this.sink = (SuggestionSink<S>) commandContext.optional(SINK_KEY).orElse(null);
+        this.resumable = commandContext.contains(DEFER_PROCESSING_KEY);
     }
 
     /**
@@ -75,6 +181,26 @@ public final class SuggestionContext<C, S extends Suggestion> {
      */
     @SuppressWarnings("unchecked")
     public @NonNull Suggestions<C, S> makeSuggestions() {
+        if (this.bounded != null) {
+            return Suggestions.create(
+                    this.commandContext,
+                    Collections.unmodifiableList(this.bounded.toList()),
+                    this.preprocessingContext.commandInput()
+            );
+        }
+        if (this.commandContext.contains(DEFER_PROCESSING_KEY)) {
+            this.commandContext.store(NARROWS_BY_PREFIX_KEY, this.narrowsByPrefix);
+            if (this.resumable && this.resumePoint != null) {
+                this.commandContext.store(RESUME_POINT_KEY, this.resumePoint);
+            } else {
+                this.commandContext.remove(RESUME_POINT_KEY);
+            }
+            return Suggestions.create(
+                    this.commandContext,
+                    Collections.unmodifiableList(this.suggestions),
+                    this.preprocessingContext.commandInput()
+            );
+        }
         final Stream<S> stream = this.suggestions.stream();
         final Stream<Suggestion> processedStream = this.processor.process(this.preprocessingContext, (Stream<Suggestion>) stream);
         final List<S> list;
@@ -106,8 +232,18 @@ public final class SuggestionContext<C, S extends Suggestion> {
      *
      * @param suggestions the suggestions to add
      */
+    @SuppressWarnings("unchecked")
     public void addSuggestions(final @NonNull Iterable<? extends @NonNull Suggestion> suggestions) {
-        suggestions.forEach(this::addSuggestion);
+        if (this.bounded == null) {
+            suggestions.forEach(this::addSuggestion);
+            return;
+        }
+        if (this.bounded.isFull()) {
+            return;
+        }
+        final Stream<Suggestion> stream = StreamSupport.stream(suggestions.spliterator(), false)
+                .map(suggestion -> this.mapper.map(Objects.requireNonNull(suggestion, "suggestion")));
+        this.offer(this.processor.process(this.preprocessingContext, stream));
     }
 
     /**
@@ -117,6 +253,234 @@ public final class SuggestionContext<C, S extends Suggestion> {
      */
     public void addSuggestion(final @NonNull Suggestion suggestion) {
         Objects.requireNonNull(suggestion, "suggestion");
-        this.suggestions.add(this.mapper.map(suggestion));
+        if (this.bounded == null) {
+            this.suggestions.add(this.mapper.map(suggestion));
+        } else if (!this.bounded.isFull()) {
+            this.offer(this.processor.process(this.preprocessingContext, Stream.<Suggestion>of(this.mapper.map(suggestion))));
+        }
+    }
+
+    /**
+     * Records that the given {@code provider} has been queried for suggestions.
+     *
+     * @param provider the provider
+     */
+    public void queriedProvider(final @NonNull SuggestionProvider<?> provider) {
+        if (!provider.narrowsByPrefix()) {
+            this.narrowsByPrefix = false;
+        }
+        if (this.depth < this.resumeDepth || this.resumePoint == null) {
+            // The suggestions of the provider would be missing when resuming from the resume point
+            this.resumable = false;
+        } else {
+            this.queriedSinceResumePoint = true;
+        }
+    }
+
+    /**
+     * Records that the command tree starts walking from the given {@code node}, with the {@code input} positioned after the
+     * tokens that lead to it. Must be followed by {@link #exitedNode()} once the walk from the node has completed.
+     * <p>
+     * If the context defers processing, then the deepest node from which every queried provider has been reached becomes
+     * the {@link #RESUME_POINT_KEY resume point} of the request.
+     *
+     * @param node  the node
+     * @param input the input
+     */
+    public void enteredNode(final @NonNull CommandNode<C> node, final @NonNull CommandInput input) {
+        this.depth++;
+        if (!this.resumable) {
+            return;
+        }
+        if (this.resumePoint == null || (this.resumeDepth == this.depth - 1 && !this.queriedSinceResumePoint)) {
+            this.resumePoint = new ResumePoint<>(node, this.commandContext.copy(), input.cursor());
+            this.resumeDepth = this.depth;
+        } else if (this.depth <= this.resumeDepth) {
+            // A sibling of the resume point, which would not be walked when resuming from the resume point
+            this.resumable = false;
+        }
+    }
+
+    /**
+     * Records that the walk from the node that was last {@link #enteredNode(CommandNode, CommandInput) entered} has
+     * completed.
+     */
+    public void exitedNode() {
+        this.depth--;
+    }
+
+    /**
+     * Adds the suggestions that the given {@code future} completes with, without waiting for the future.
+     * <p>
+     * Pending suggestions are added in the order in which they were registered, regardless of the order in which the
+     * futures complete. Suggestions of futures that have completed, and whose predecessors have been added, are added
+     * as soon as another future is registered, so that {@link #isFull()} reflects them while the command tree is still
+     * being traversed. The remaining suggestions are added by {@link #awaitSuggestions(Executor)}.
+     * <p>
+     * If the suggestions are delivered to a {@link #SINK_KEY sink}, then they are instead processed against the given
+     * {@code input} and a snapshot of the command context, and delivered as soon as the future completes.
+     *
+     * @param input       the input that the suggestions were requested for
+     * @param suggestions future that completes with the suggestions to add
+     */
+    public void addSuggestionsLater(
+            final @NonNull CommandInput input,
+            final @NonNull CompletableFuture<? extends Iterable<? extends @NonNull Suggestion>> suggestions
+    ) {
+        if (this.sink != null) {
+            // Deliver before the future counts as completed, so that the sink is not closed before delivery
+            final CommandPreprocessingContext<C> processingContext = CommandPreprocessingContext.of(
+                    this.commandContext.snapshot(),
+                    input.copy()
+            );
+            final CompletableFuture<? extends Iterable<? extends Suggestion>> pending = suggestions.thenApply(batch -> {
+                this.deliver(processingContext, batch);
+                return batch;
+            });
+            synchronized (this.pendingSuggestions) {
+                this.pendingSuggestions.add(pending);
+            }
+            return;
+        }
+        synchronized (this.pendingSuggestions) {
+            this.pendingSuggestions.add(suggestions);
+            this.addCompletedSuggestions();
+        }
+    }
+
+    /**
+     * Waits for all suggestions that were registered using {@link #addSuggestionsLater(CommandInput, CompletableFuture)}
+     * and adds the ones that have not been added yet to the stored suggestions. If the suggestions are delivered to a sink,
+     * then they are not added, and the returned future completes as soon as the sink has been closed.
+     * <p>
+     * Timeouts are not applied by this method, they are expected to have been applied to the registered futures when the
+     * providers were queried.
+     *
+     * @param executor executor that adds the suggestions
+     * @return future that completes once the suggestions have been added
+     */
+    public @NonNull CompletableFuture<Void> awaitSuggestions(final @NonNull Executor executor) {
+        final List<CompletableFuture<? extends Iterable<? extends Suggestion>>> pending;
+        synchronized (this.pendingSuggestions) {
+            if (this.addedSuggestions == this.pendingSuggestions.size()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            pending = new ArrayList<>(this.pendingSuggestions.subList(this.addedSuggestions, this.pendingSuggestions.size()));
+        }
+        final CompletableFuture<Void> all = CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]));
+        if (this.sink != null) {
+            return CompletableFuture.anyOf(all, this.sink.completion()).<Void>thenApply(result -> null);
+        }
+        return all.thenRunAsync(() -> {
+            synchronized (this.pendingSuggestions) {
+                for (; this.addedSuggestions < this.pendingSuggestions.size(); this.addedSuggestions++) {
+                    this.addSuggestions(this.pendingSuggestions.get(this.addedSuggestions).join());
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Returns whether the context is bounded or delivers to a closed sink, and will discard any further suggestions, in which
+     * case suggestion providers do not need to be queried.
+     *
+     * @return {@code true} if the context is full
+     */
+    public boolean isFull() {
+        if (this.sink != null) {
+            return this.sink.isClosed();
+        }
+        return this.bounded != null && this.bounded.isFull();
+    }
+
+    /**
+     * Adds the suggestions of the pending futures that have completed normally, in registration order, up to the first
+     * future that has not. Must be invoked while holding the lock on {@link #pendingSuggestions}.
+     */
+    private void addCompletedSuggestions() {
+        while (this.addedSuggestions < this.pendingSuggestions.size()) {
+            final CompletableFuture<? extends Iterable<? extends Suggestion>> future =
+                    this.pendingSuggestions.get(this.addedSuggestions);
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                return;
+            }
+            this.addedSuggestions++;
+            this.addSuggestions(future.join());
+        }
+    }
+
+    private void deliver(
+            final @NonNull CommandPreprocessingContext<C> processingContext,
+            final @NonNull Iterable<? extends Suggestion> suggestions
+    ) {
+        final SuggestionSink<S> sink = Objects.requireNonNull(this.sink);
+        if (sink.isClosed()) {
+            return;
+        }
+        final Stream<Suggestion> stream = StreamSupport.stream(suggestions.spliterator(), false)
+                .map(suggestion -> this.mapper.map(Objects.requireNonNull(suggestion, "suggestion")));
+        final Iterator<Suggestion> iterator = this.processor.process(processingContext, stream).iterator();
+        while (iterator.hasNext()) {
+            if (!sink.offer(this.mapper.map(Objects.requireNonNull(iterator.next(), "suggestion")))) {
+                return;
+            }
+        }
+    }
+
+    private void offer(final @NonNull Stream<Suggestion> processedStream) {
+        final Iterator<Suggestion> iterator = processedStream.iterator();
+        while (iterator.hasNext()) {
+            final Suggestion suggestion = Objects.requireNonNull(iterator.next(), "suggestion");
+            if (!this.bounded.offer(this.mapper.map(suggestion))) {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Node of the command tree from which the walk of a suggestion request can be resumed for a later request, as long as
+     * the later input keeps the tokens before the {@link #cursor() cursor}.
+     *
+     * @param <C> command sender type
+     */
+    public static final class ResumePoint<C> {
+
+        private final CommandNode<C> node;
+        private final CommandContext<C> context;
+        private final int cursor;
+
+        private ResumePoint(final @NonNull CommandNode<C> node, final @NonNull CommandContext<C> context, final int cursor) {
+            this.node = node;
+            this.context = context;
+            this.cursor = cursor;
+        }
+
+        /**
+         * Returns the node that the walk is resumed from.
+         *
+         * @return the node
+         */
+        public @NonNull CommandNode<C> node() {
+            return this.node;
+        }
+
+        /**
+         * Returns a copy of the command context when the node was reached, holding the values of the parsed tokens.
+         *
+         * @return the context
+         */
+        public @NonNull CommandContext<C> context() {
+            return this.context;
+        }
+
+        /**
+         * Returns the position in the input where the tokens that lead to the node end.
+         *
+         * @return the cursor
+         */
+        public int cursor() {
+            return this.cursor;
+        }
     }
 }
@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Delivers suggestions to a consumer as they become available, until a limit has been reached or the delivery has been
+ * cancelled.
+ * <p>
+ * The {@link #completion() completion future} completes once all suggestions have been delivered or the limit has been
+ * reached. Cancelling it stops the delivery of further suggestions.
+ *
+ * @param <S> suggestion type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class SuggestionSink<S> {
+
+    private final Consumer<? super S> consumer;
+    private final int limit;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private int delivered;
+
+    /**
+     * Creates a new sink.
+     *
+     * @param consumer the consumer that receives the suggestions
+     * @param limit    the maximum number of suggestions to deliver
+     */
+    public SuggestionSink(final @NonNull Consumer<? super S> consumer, final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The suggestion limit may not be negative");
+        }
+        this.consumer = consumer;
+        this.limit = limit;
+        if (limit == 0) {
+            this.completion.complete(null);
+        }
+    }
+
+    /**
+     * Delivers the given {@code suggestion} to the consumer, unless the sink has been closed.
+     *
+     * @param suggestion the suggestion
+     * @return {@code true} if further suggestions may be delivered
+     */
+    public synchronized boolean offer(final @NonNull S suggestion) {
+        if (this.isClosed()) {
+            return false;
+        }
+        try {
+            this.consumer.accept(suggestion);
+        } catch (final RuntimeException exception) {
+            this.completion.completeExceptionally(exception);
+            return false;
+        }
+        if (++this.delivered >= this.limit) {
+            this.completion.complete(null);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether no further suggestions are delivered, because the limit has been reached or the delivery has been
+     * completed or cancelled.
+     *
+     * @return {@code true} if the sink is closed
+     */
+    public boolean isClosed() {
+        return this.completion.isDone();
+    }
+
+    /**
+     * Returns the future that completes once the delivery has ended.
+     *
+     * @return the completion future
+     */
+    public @NonNull CompletableFuture<Void> completion() {
+        return this.completion;
+    }
+}
@@ -0,0 +1,124 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.exception.CommandParseException;
+import org.incendo.cloud.exception.handling.ExceptionController;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * Receives the duration of every {@link CommandPhase} of the command dispatch.
+ * <p>
+ * Durations are attributed to the name of the root command that the input was dispatched to, which is {@code null} if
+ * the input did not match any root command. Implementations are invoked on the threads that perform the dispatch, and
+ * must therefore be thread-safe and cheap.
+ *
+ * @param <C> command sender type
+ * @see StandardCommandMetrics
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface CommandMetrics<C> {
+
+    /**
+     * Key that the command tree stores the name of the matched root command under when it generates suggestions for a
+     * context while metrics are {@link #enabled()}.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    CloudKey<String> SUGGESTION_ROOT_COMMAND = CloudKey.of("__suggestion_root_command__", String.class);
+
+    /**
+     * Returns a metrics instance that discards every measurement. The dispatch does not take any timestamps when this is
+     * the active instance.
+     *
+     * @param <C> command sender type
+     * @return the metrics instance
+     */
+    @SuppressWarnings("unchecked")
+    static <C> @NonNull CommandMetrics<C> noop() {
+        return (CommandMetrics<C>) NoOpCommandMetrics.INSTANCE;
+    }
+
+    /**
+     * Returns whether this instance records measurements. The dispatch skips taking timestamps if this returns {@code false}.
+     *
+     * @return {@code true} if measurements should be recorded
+     */
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param context       the context of the dispatch
+     * @param rootCommand   the name of the root command, or {@code null} if it is unknown
+     * @param phase         the phase
+     * @param durationNanos the duration of the phase in nanoseconds
+     * @param success       whether the phase completed without failing
+     */
+    void record(
+            @NonNull CommandContext<C> context,
+            @Nullable String rootCommand,
+            @NonNull CommandPhase phase,
+            long durationNanos,
+            boolean success
+    );
+
+    /**
+     * Resolves the name of the root command that a dispatch was attributed to.
+     * <p>
+     * The root command is taken from the parsed command if there is one, from the chain of a parsing failure, or
+     * from the root literal that was matched while generating suggestions.
+     *
+     * @param context   the context of the dispatch
+     * @param throwable the failure of the dispatch, if any
+     * @return the name of the root command, or {@code null} if it cannot be determined
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    static @Nullable String rootCommand(final @NonNull CommandContext<?> context, final @Nullable Throwable throwable) {
+        if (context.hasCommand()) {
+            final Command<?> command = context.command();
+            return command.rootComponent().name();
+        }
+        final Throwable cause = throwable == null ? null : ExceptionController.unwrapCompletionException(throwable);
+        if (cause instanceof CommandParseException) {
+            for (final CommandComponent<?> component : ((CommandParseException) cause).currentChain()) {
+                if (component != null) {
+                    return component.name();
+                }
+            }
+            return null;
+        }
+        if (context.contains(SUGGESTION_ROOT_COMMAND)) {
+            return context.get(SUGGESTION_ROOT_COMMAND);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import org.apiguardian.api.API;
+
+/**
+ * The phases of command dispatch that are reported to {@link CommandMetrics}.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public enum CommandPhase {
+    /**
+     * Invocation of the {@link org.incendo.cloud.execution.preprocessor.CommandPreprocessor command preprocessors}.
+     */
+    PREPROCESSING,
+    /**
+     * Parsing of the input through the command tree.
+     */
+    PARSING,
+    /**
+     * Invocation of the {@link org.incendo.cloud.execution.postprocessor.CommandPostprocessor command postprocessors}.
+     */
+    POSTPROCESSING,
+    /**
+     * Invocation of the {@link org.incendo.cloud.execution.CommandExecutionHandler command handler}.
+     */
+    EXECUTION,
+    /**
+     * Dispatch of a failure through the {@link org.incendo.cloud.exception.handling.ExceptionController}.
+     */
+    EXCEPTION_HANDLING,
+    /**
+     * Generation of suggestions, including the preprocessing of the suggestion context.
+     */
+    SUGGESTIONS
+}
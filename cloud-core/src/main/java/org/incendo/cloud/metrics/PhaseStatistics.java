@@ -0,0 +1,145 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Snapshot of the measurements of a single {@link CommandPhase} of a single root command.
+ * <p>
+ * Percentiles are reported as the highest value that is equivalent to the recorded value, and are accurate to within
+ * 12.5%.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class PhaseStatistics {
+
+    private static final PhaseStatistics EMPTY = new PhaseStatistics(new long[LatencyHistogram.BUCKETS], 0L, 0L, 0L);
+
+    private final long[] counts;
+    private final long count;
+    private final long failures;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    PhaseStatistics(
+            final long @NonNull[] counts,
+            final long failures,
+            final long totalNanos,
+            final long maxNanos
+    ) {
+        this.counts = counts;
+        long count = 0L;
+        for (final long bucket : counts) {
+            count += bucket;
+        }
+        this.count = count;
+        this.failures = failures;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    static @NonNull PhaseStatistics empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of measurements.
+     *
+     * @return the number of measurements
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of measurements of phases that failed.
+     *
+     * @return the number of failures
+     */
+    public long failures() {
+        return this.failures;
+    }
+
+    /**
+     * Returns the sum of all measurements.
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Returns the largest measurement.
+     *
+     * @return the maximum duration in nanoseconds
+     */
+    public long maxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Returns the mean of all measurements.
+     *
+     * @return the mean duration in nanoseconds, or {@code 0} if nothing has been measured
+     */
+    public double meanNanos() {
+        return this.count == 0L ? 0D : (double) this.totalNanos / this.count;
+    }
+
+    /**
+     * Returns the value below which {@code percentile} percent of the measurements fall.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the duration in nanoseconds, or {@code 0} if nothing has been measured
+     */
+    public long percentileNanos(final double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100, was " + percentile);
+        }
+        if (this.count == 0L) {
+            return 0L;
+        }
+        final long target = Math.max(1L, (long) Math.ceil(percentile / 100D * this.count));
+        long seen = 0L;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.min(LatencyHistogram.highestEquivalentValue(i), this.maxNanos);
+            }
+        }
+        return this.maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseStatistics{count=" + this.count
+                + ", failures=" + this.failures
+                + ", mean=" + this.meanNanos()
+                + ", p50=" + this.percentileNanos(50D)
+                + ", p99=" + this.percentileNanos(99D)
+                + ", max=" + this.maxNanos + '}';
+    }
+}
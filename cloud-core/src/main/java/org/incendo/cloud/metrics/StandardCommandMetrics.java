@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * {@link CommandMetrics} implementation that keeps a latency histogram per root command and {@link CommandPhase}.
+ * <p>
+ * Recording is lock-free once the histogram for the root command and phase exists. Measurements that cannot be attributed
+ * to a root command are recorded under {@link #UNKNOWN_COMMAND}.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class StandardCommandMetrics<C> implements CommandMetrics<C> {
+
+    /**
+     * The key used for measurements that cannot be attributed to a root command.
+     */
+    public static final String UNKNOWN_COMMAND = "<unknown>";
+
+    private static final CommandPhase[] PHASES = CommandPhase.values();
+
+    private final Map<String, AtomicReferenceArray<LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(
+            final @NonNull CommandContext<C> context,
+            final @Nullable String rootCommand,
+            final @NonNull CommandPhase phase,
+            final long durationNanos,
+            final boolean success
+    ) {
+        final String key = rootCommand == null ? UNKNOWN_COMMAND : rootCommand;
+        AtomicReferenceArray<LatencyHistogram> phases = this.histograms.get(key);
+        if (phases == null) {
+            phases = this.histograms.computeIfAbsent(key, k -> new AtomicReferenceArray<>(PHASES.length));
+        }
+        LatencyHistogram histogram = phases.get(phase.ordinal());
+        if (histogram == null) {
+            final LatencyHistogram created = new LatencyHistogram();
+            histogram = phases.compareAndSet(phase.ordinal(), null, created) ? created : phases.get(phase.ordinal());
+        }
+        histogram.record(durationNanos, success);
+    }
+
+    /**
+     * Returns the statistics of the given {@code phase} of the given root command.
+     *
+     * @param rootCommand the name of the root command, or {@link #UNKNOWN_COMMAND}
+     * @param phase       the phase
+     * @return the statistics, which are empty if nothing has been recorded
+     */
+    public @NonNull PhaseStatistics statistics(final @NonNull String rootCommand, final @NonNull CommandPhase phase) {
+        final AtomicReferenceArray<LatencyHistogram> phases = this.histograms.get(rootCommand);
+        if (phases == null) {
+            return PhaseStatistics.empty();
+        }
+        final LatencyHistogram histogram = phases.get(phase.ordinal());
+        return histogram == null ? PhaseStatistics.empty() : histogram.snapshot();
+    }
+
+    /**
+     * Returns the statistics of every phase that has been recorded, keyed by the name of the root command.
+     *
+     * @return immutable snapshot of the statistics
+     */
+    public @NonNull Map<@NonNull String, @NonNull Map<@NonNull CommandPhase, @NonNull PhaseStatistics>> statistics() {
+        final Map<String, Map<CommandPhase, PhaseStatistics>> statistics = new HashMap<>();
+        this.histograms.forEach((rootCommand, phases) -> {
+            final Map<CommandPhase, PhaseStatistics> phaseStatistics = new EnumMap<>(CommandPhase.class);
+            for (final CommandPhase phase : PHASES) {
+                final LatencyHistogram histogram = phases.get(phase.ordinal());
+                if (histogram != null) {
+                    phaseStatistics.put(phase, histogram.snapshot());
+                }
+            }
+            statistics.put(rootCommand, Collections.unmodifiableMap(phaseStatistics));
+        });
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Discards every measurement.
+     */
+    public void reset() {
+        this.histograms.clear();
+    }
+}
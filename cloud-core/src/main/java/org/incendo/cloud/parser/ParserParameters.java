@@ -122,4 +122,21 @@ public final class ParserParameters {
     public @NonNull Map<@NonNull ParserParameter<?>, @NonNull Object> parameters() {
         return Collections.unmodifiableMap(this.internalMap);
     }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || this.getClass() != object.getClass()) {
+            return false;
+        }
+        final ParserParameters that = (ParserParameters) object;
+        return this.internalMap.equals(that.internalMap);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.internalMap.hashCode();
+    }
 }
@@ -188,7 +188,7 @@ public interface AggregateParser<C, O> extends ArgumentParser.FutureArgumentPars
                                 .parseFuture(commandContext, commandInput)
                                 .thenApply(value -> {
                                     if (value.parsedValue().isPresent()) {
-                                        final CloudKey key = CloudKey.of(component.name(), component.valueType());
+                                        final CloudKey key = component.key();
                                         aggregateParsingContext.store(key, value.parsedValue().get());
                                     } else if (value.failure().isPresent()) {
                                         return ArgumentParseResult.failure(new AggregateParseException(
@@ -61,6 +61,28 @@ public final class FlagContext {
         return new FlagContext();
     }
 
+    /**
+     * Returns a copy of this context that is not affected by later changes to this context.
+     *
+     * @return the copy
+     */
+    @API(status = API.Status.INTERNAL)
+    public @NonNull FlagContext copy() {
+        final FlagContext copy = new FlagContext();
+        for (final Map.Entry<String, List> entry : this.flagValues.entrySet()) {
+            copy.flagValues.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        return copy;
+    }
+
+    /**
+     * Removes all flag values from this context.
+     */
+    @API(status = API.Status.INTERNAL)
+    public void clear() {
+        this.flagValues.clear();
+    }
+
     /**
      * Indicate that a presence flag was supplied
      *
@@ -26,6 +26,7 @@ package org.incendo.cloud.parser.standard;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -41,6 +42,7 @@ import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
 
 @API(status = API.Status.STABLE)
 public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C, E>,
@@ -76,6 +78,8 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
 
     private final Class<E> enumClass;
     private final EnumSet<E> acceptedValues;
+    private final List<String> stringSuggestions;
+    private final List<Suggestion> suggestions;
 
     /**
      * Construct a new enum parser
@@ -85,6 +89,12 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
     public EnumParser(final @NonNull Class<E> enumClass) {
         this.enumClass = enumClass;
         this.acceptedValues = EnumSet.allOf(enumClass);
+        this.stringSuggestions = Collections.unmodifiableList(
+                this.acceptedValues.stream().map(e -> e.name().toLowerCase(Locale.ROOT)).collect(Collectors.toList())
+        );
+        this.suggestions = Collections.unmodifiableList(
+                this.stringSuggestions.stream().map(Suggestion::suggestion).collect(Collectors.toList())
+        );
     }
 
     /**
@@ -124,7 +134,20 @@ public final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C,
     @Override
     public @NonNull Iterable<@NonNull String> stringSuggestions(final @NonNull CommandContext<C> commandContext,
                                                                 final @NonNull CommandInput input) {
-        return EnumSet.allOf(this.enumClass).stream().map(e -> e.name().toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+        return this.stringSuggestions;
+    }
+
+    @Override
+    public boolean narrowsByPrefix() {
+        return true;
+    }
+
+    @Override
+    public @NonNull Iterable<@NonNull Suggestion> suggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        return this.suggestions;
     }
 
 
@@ -91,6 +91,11 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
         return Collections.singletonList(this.name);
     }
 
+    @Override
+    public boolean narrowsByPrefix() {
+        return true;
+    }
+
     /**
      * Returns the aliases, if relevant.
      * <p>
@@ -128,6 +133,17 @@ public final class LiteralParser<C> implements ArgumentParser<C, String>, Blocki
         this.alternativeAliases.add(alias);
     }
 
+    /**
+     * Removes an alias that was added using {@link #insertAlias(String)}.
+     *
+     * @param alias alias to remove
+     */
+    @API(status = API.Status.INTERNAL)
+    public void removeAlias(final @NonNull String alias) {
+        this.allAcceptedAliases.remove(alias);
+        this.alternativeAliases.remove(alias);
+    }
+
     private static void validateNames(final String name, final @NonNull String[] aliases) {
         @Nullable List<String> errors = null;
         errors = validateName(name, false, errors);
@@ -0,0 +1,217 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * Suggestion provider that caches the suggestions of another provider.
+ * <p>
+ * Suggestions are cached by the key that the key function computes from the context and input of a request. Requests with
+ * the same key share a single future, including requests that are made while the first request is still in flight, so that
+ * the delegate provider is queried at most once per key for as long as the entry is cached. Requests for which the key
+ * function returns {@code null} are passed on to the delegate without caching.
+ * <p>
+ * Entries expire once the time to live has elapsed since they were created. Expired entries are evicted whenever a new
+ * entry is added, and the least recently used entry is evicted when the cache is full. Entries whose future completes
+ * exceptionally are removed, so that the next request retries. Every request receives its own future, so cancelling or
+ * completing it does not affect the cached entry.
+ *
+ * @param <C> command sender type
+ * @see SuggestionProvider#cached(SuggestionProvider, BiFunction, Duration, int)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CachedSuggestionProvider<C> implements SuggestionProvider<C> {
+
+    private final SuggestionProvider<C> provider;
+    private final BiFunction<@NonNull CommandContext<C>, @NonNull CommandInput, ?> keyFunction;
+    private final long timeToLiveNanos;
+    private final int maximumSize;
+    private final LongSupplier clock;
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true /* accessOrder */);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    CachedSuggestionProvider(
+            final @NonNull SuggestionProvider<C> provider,
+            final @NonNull BiFunction<@NonNull CommandContext<C>, @NonNull CommandInput, ?> keyFunction,
+            final @NonNull Duration timeToLive,
+            final int maximumSize,
+            final @NonNull LongSupplier clock
+    ) {
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("The time to live must be positive");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+        this.provider = provider;
+        this.keyFunction = keyFunction;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<? extends @NonNull Iterable<? extends @NonNull Suggestion>> suggestionsFuture(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        final @Nullable Object key = this.keyFunction.apply(context, input);
+        if (key == null) {
+            return this.provider.suggestionsFuture(context, input);
+        }
+
+        final long now = this.clock.getAsLong();
+        final Entry entry;
+        synchronized (this.entries) {
+            final Entry existing = this.entries.get(key);
+            if (existing != null && now - existing.created < this.timeToLiveNanos) {
+                this.hits.incrementAndGet();
+                return existing.copy();
+            }
+            entry = new Entry(now);
+            this.entries.put(key, entry);
+            this.evict(now);
+        }
+        this.misses.incrementAndGet();
+
+        final CompletableFuture<? extends Iterable<? extends Suggestion>> future;
+        try {
+            future = this.provider.suggestionsFuture(context, input);
+        } catch (final RuntimeException exception) {
+            this.remove(key, entry);
+            entry.suggestions.completeExceptionally(exception);
+            throw exception;
+        }
+        future.whenComplete((suggestions, throwable) -> {
+            if (throwable != null) {
+                this.remove(key, entry);
+                entry.suggestions.completeExceptionally(throwable);
+                return;
+            }
+            final List<Suggestion> list = new ArrayList<>();
+            suggestions.forEach(list::add);
+            entry.suggestions.complete(Collections.unmodifiableList(list));
+        });
+        return entry.copy();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The cached suggestions narrow by prefix if the suggestions of the cached provider do.
+     */
+    @Override
+    public boolean narrowsByPrefix() {
+        return this.provider.narrowsByPrefix();
+    }
+
+    /**
+     * Returns the number of requests that were answered from the cache, including requests that joined a request that was
+     * still in flight.
+     *
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Returns the number of requests that were passed on to the delegate provider because no live entry was cached.
+     * Requests for which no key was computed are not counted.
+     *
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Returns the number of cached entries, including expired entries that have not been evicted yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Removes all cached entries. Requests that are in flight still complete their futures.
+     */
+    public void invalidate() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    private void evict(final long now) {
+        this.entries.values().removeIf(existing -> now - existing.created >= this.timeToLiveNanos);
+        // The entries are in access order, so the least recently used entries come first
+        final Iterator<Entry> iterator = this.entries.values().iterator();
+        for (int size = this.entries.size(); size > this.maximumSize && iterator.hasNext(); size--) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void remove(final @NonNull Object key, final @NonNull Entry entry) {
+        synchronized (this.entries) {
+            this.entries.remove(key, entry);
+        }
+    }
+
+
+    private static final class Entry {
+
+        private final long created;
+        private final CompletableFuture<List<Suggestion>> suggestions = new CompletableFuture<>();
+
+        private Entry(final long created) {
+            this.created = created;
+        }
+
+        private @NonNull CompletableFuture<List<Suggestion>> copy() {
+            return this.suggestions.thenApply(Function.identity());
+        }
+    }
+}
@@ -24,18 +24,30 @@
 package org.incendo.cloud.suggestion;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.CommandTree;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandContextFactory;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.internal.SuggestionContext;
+import org.incendo.cloud.internal.SuggestionSink;
+import org.incendo.cloud.metrics.CommandMetrics;
+import org.incendo.cloud.metrics.CommandPhase;
 import org.incendo.cloud.services.State;
 import org.incendo.cloud.setting.ManagerSetting;
+import org.incendo.cloud.util.CompletableFutures;
 
 /**
  * Command suggestion engine that delegates to a {@link org.incendo.cloud.CommandTree}
@@ -52,6 +64,7 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
     private final CommandContextFactory<C> contextFactory;
     private final ExecutionCoordinator<C> executionCoordinator;
     private final SuggestionMapper<S> mapper;
+    private final CommandContext<C> releasedContext;
 
     /**
      * Creates a new {@link DelegatingSuggestionFactory}.
@@ -75,6 +88,7 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
         this.executionCoordinator = executionCoordinator;
         this.mapper = mapper;
         this.singleEmptySuggestion = Collections.singletonList(mapper.map(Suggestion.suggestion("")));
+        this.releasedContext = CommandContext.released(commandManager);
     }
 
     @Override
@@ -90,7 +104,76 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
             final @NonNull C sender,
             final @NonNull String input
     ) {
-        return this.suggest(this.contextFactory.create(true /* suggestions */, sender), input);
+        final CommandContext<C> context = this.contextFactory.create(true /* suggestions */, sender);
+        return this.releaseOnCompletion(context, this.suggest(context, input));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
+    ) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The suggestion limit may not be negative");
+        }
+        context.store(SUGGESTION_LIMIT, limit);
+        if (comparator != null) {
+            context.store(SuggestionContext.COMPARATOR_KEY, comparator);
+        }
+        return this.suggestFromTree(context, input);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
+    ) {
+        final CommandContext<C> context = this.contextFactory.create(true /* suggestions */, sender);
+        return this.releaseOnCompletion(context, this.suggest(context, input, limit, comparator));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The suggestions of each suggestion provider are processed and delivered as soon as the provider has completed, so
+     * that fast providers do not wait for slow ones. The order in which the suggestions are delivered therefore depends on
+     * the order in which the providers complete. {@link ManagerSetting#FORCE_SUGGESTION} does not apply to delivered
+     * suggestions.
+     */
+    @Override
+    public @NonNull CompletableFuture<Void> suggestStreaming(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final int limit,
+            final @NonNull Consumer<? super S> consumer
+    ) {
+        final SuggestionSink<S> sink = new SuggestionSink<>(consumer, limit);
+        // The context is never released back to the pool, as providers may still deliver suggestions once the sink is closed
+        final CommandContext<C> context = this.createContext(sender);
+        context.store(SuggestionContext.SINK_KEY, sink);
+        this.suggestFromTree(context, input).whenComplete((suggestions, throwable) -> {
+            if (throwable != null) {
+                sink.completion().completeExceptionally(throwable);
+            } else {
+                sink.completion().complete(null);
+            }
+        });
+        return sink.completion();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned session is incremental, see {@link SuggestionSession} for the conditions under which previously
+     * collected suggestions are reused.
+     */
+    @Override
+    public @NonNull SuggestionSession<C, S> session(final @NonNull C sender) {
+        return new IncrementalSuggestionSession<>(this, sender);
     }
 
     @Override
@@ -104,19 +187,142 @@ public final class DelegatingSuggestionFactory<C, S extends Suggestion> implemen
         );
     }
 
+    private @NonNull CompletableFuture<@NonNull Suggestions<C, S>> releaseOnCompletion(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggestions
+    ) {
+        if (this.commandManager.commandContextPoolSize() <= 0) {
+            return suggestions;
+        }
+        // The pooled context may be reused before the suggestions are read, so the suggestions do not expose it
+        return CompletableFutures.thenRunAfterCompletion(
+                suggestions.thenApply(result -> Suggestions.create(this.releasedContext, result.list(), result.commandInput())),
+                () -> this.contextFactory.release(context)
+        );
+    }
+
+    /**
+     * Creates a context for a suggestion request that is made by the given {@code sender}. The context is never released
+     * back to the pool, as it may be retained by a {@link SuggestionSession}.
+     *
+     * @param sender the sender
+     * @return the context
+     */
+    @NonNull CommandContext<C> createContext(final @NonNull C sender) {
+        return this.contextFactory.create(true /* suggestions */, sender);
+    }
+
+    /**
+     * Returns the {@link CommandManager#commandRevision() command revision}, which changes whenever the command tree does.
+     *
+     * @return the command revision
+     */
+    long commandRevision() {
+        return this.commandManager.commandRevision();
+    }
+
+    /**
+     * Collects the suggestions for the given {@code input} without applying the suggestion processor to them.
+     * <p>
+     * The command input of the returned suggestions is positioned where the processor would have been applied.
+     *
+     * @param context the request context
+     * @param input   the input
+     * @return the unprocessed suggestions, or {@code null} if the input was rejected by a preprocessor
+     */
+    @NonNull CompletableFuture<@Nullable Suggestions<C, S>> collectUnprocessedSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        context.store(SuggestionContext.DEFER_PROCESSING_KEY, true);
+        return this.measure(context, () -> {
+            final @NonNull CommandInput commandInput = CommandInput.of(input);
+            context.store("__raw_input__", commandInput.copy());
+
+            if (this.commandManager.preprocessContext(context, commandInput) != State.ACCEPTED) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return this.executionCoordinator.coordinateSuggestions(this.commandTree, context, commandInput, this.mapper);
+        });
+    }
+
+    /**
+     * Applies the suggestion processor to suggestions collected by
+     * {@link #collectUnprocessedSuggestions(CommandContext, String)}.
+     *
+     * @param context      the request context
+     * @param suggestions  the unprocessed suggestions
+     * @param commandInput the command input, positioned where the processor should be applied
+     * @return the processed suggestions
+     */
+    @NonNull Suggestions<C, S> processSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull List<S> suggestions,
+            final @NonNull CommandInput commandInput
+    ) {
+        final CommandPreprocessingContext<C> preprocessingContext = CommandPreprocessingContext.of(context, commandInput);
+        final List<S> list = this.commandManager.suggestionProcessor()
+                .process(preprocessingContext, suggestions.stream().map(Suggestion.class::cast))
+                .map(suggestion -> this.mapper.map(Objects.requireNonNull(suggestion, "suggestion")))
+                .collect(Collectors.toList());
+        if (list.isEmpty() && this.commandManager.settings().get(ManagerSetting.FORCE_SUGGESTION)) {
+            return Suggestions.create(context, this.singleEmptySuggestion, commandInput);
+        }
+        return Suggestions.create(context, Collections.unmodifiableList(list), commandInput);
+    }
+
+    /**
+     * Returns the suggestions for a request whose input was rejected by a preprocessor.
+     *
+     * @param context      the request context
+     * @param commandInput the command input
+     * @return the suggestions
+     */
+    @NonNull Suggestions<C, S> rejectedSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput commandInput
+    ) {
+        if (this.commandManager.settings().get(ManagerSetting.FORCE_SUGGESTION)) {
+            return Suggestions.create(context, this.singleEmptySuggestion, commandInput);
+        }
+        return Suggestions.create(context, Collections.emptyList(), commandInput);
+    }
+
     private @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggestFromTree(
             final @NonNull CommandContext<C> context,
             final @NonNull String input
+    ) {
+        return this.measure(context, () -> this.collectSuggestions(context, input));
+    }
+
+    private <T> @NonNull CompletableFuture<T> measure(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Supplier<@NonNull CompletableFuture<T>> suggestions
+    ) {
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        if (!metrics.enabled()) {
+            return suggestions.get();
+        }
+        final long start = System.nanoTime();
+        return suggestions.get().whenComplete((result, throwable) -> metrics.record(
+                context,
+                CommandMetrics.rootCommand(context, throwable),
+                CommandPhase.SUGGESTIONS,
+                System.nanoTime() - start,
+                throwable == null
+        ));
+    }
+
+    private @NonNull CompletableFuture<@NonNull Suggestions<C, S>> collectSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
     ) {
         final @NonNull CommandInput commandInput = CommandInput.of(input);
         /* Store a copy of the input queue in the context */
         context.store("__raw_input__", commandInput.copy());
 
         if (this.commandManager.preprocessContext(context, commandInput) != State.ACCEPTED) {
-            if (this.commandManager.settings().get(ManagerSetting.FORCE_SUGGESTION)) {
-                return CompletableFuture.completedFuture(Suggestions.create(context, this.singleEmptySuggestion, commandInput));
-            }
-            return CompletableFuture.completedFuture(Suggestions.create(context, Collections.emptyList(), commandInput));
+            return CompletableFuture.completedFuture(this.rejectedSuggestions(context, commandInput));
         }
 
         return this.executionCoordinator.coordinateSuggestions(this.commandTree, context, commandInput, this.mapper)
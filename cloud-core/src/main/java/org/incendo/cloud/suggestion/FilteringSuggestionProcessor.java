@@ -23,8 +23,6 @@
 //
 package org.incendo.cloud.suggestion;
 
-import java.util.Iterator;
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -34,11 +32,15 @@ import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
-import org.incendo.cloud.internal.CommandInputTokenizer;
 
 /**
  * Command suggestion processor filters suggestions based on the remaining unconsumed input in the
  * queue.
+ * <p>
+ * Suggestions returned by an {@link IndexedSuggestionProvider} have already been filtered by prefix, ignoring case. When
+ * filtering with {@link Filter#partialTokenMatches(boolean)} that ignores case, which accepts all of them, they are passed
+ * through as-is if the input is the one they were filtered against. Any other filter or input is applied to them like it
+ * is to other suggestions.
  *
  * @param <C> command sender type
  */
@@ -46,6 +48,7 @@ import org.incendo.cloud.internal.CommandInputTokenizer;
 public final class FilteringSuggestionProcessor<C> implements SuggestionProcessor<C> {
 
     private final @NonNull Filter<C> filter;
+    private final boolean acceptsPrefixMatches;
 
     /**
      * Create a new {@link FilteringSuggestionProcessor} filtering with {@link Filter#partialTokenMatches(boolean)} that
@@ -64,9 +67,11 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
     @API(status = API.Status.STABLE)
     public FilteringSuggestionProcessor(final @NonNull Filter<C> filter) {
         this.filter = filter;
+        this.acceptsPrefixMatches = filter instanceof PartialTokenMatchFilter && ((PartialTokenMatchFilter<C>) filter).ignoreCase();
     }
 
     @Override
+    @SuppressWarnings("StringEquality")
     public @NonNull Stream<@NonNull Suggestion> process(
             final @NonNull CommandPreprocessingContext<C> context,
             final @NonNull Stream<@NonNull Suggestion> suggestions
@@ -77,11 +82,21 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
         } else {
             input = context.commandInput().skipWhitespace().remainingInput();
         }
+        final @Nullable String lowerCaseInput = this.acceptsPrefixMatches ? input.toLowerCase(Locale.ROOT) : null;
         return suggestions.map(suggestion -> {
+            if (lowerCaseInput != null && suggestion instanceof SimpleSuggestion
+                    && ((SimpleSuggestion) suggestion).filteredFor(lowerCaseInput)) {
+                // Already filtered against this input by an IndexedSuggestionProvider, and every prefix match passes the filter
+                return suggestion;
+            }
             final String filtered = this.filter.filter(context, suggestion.suggestion(), input);
             if (filtered == null) {
                 return null;
             }
+            if (filtered == suggestion.suggestion()) {
+                // Unchanged by the filter, no need to create a new suggestion
+                return suggestion;
+            }
             return suggestion.withSuggestion(filtered);
         }).filter(Objects::nonNull);
     }
@@ -161,6 +176,8 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
         /**
          * Filter that requires every token of input to be a partial or full match for a single corresponding token in the
          * suggestion.
+         * <p>
+         * The input is only tokenized once per suggestion request, and suggestions are matched against it in place.
          *
          * @param ignoreCase whether to ignore case
          * @param <C>        command sender type
@@ -168,38 +185,7 @@ public final class FilteringSuggestionProcessor<C> implements SuggestionProcesso
          */
         @API(status = API.Status.STABLE)
         static <C> @NonNull Simple<C> partialTokenMatches(final boolean ignoreCase) {
-            return Simple.contextFree((suggestion, input) -> {
-                final List<String> suggestionTokens = new CommandInputTokenizer(suggestion).tokenize();
-                final List<String> inputTokens = new CommandInputTokenizer(input).tokenize();
-
-                boolean passed = true;
-
-                for (String inputToken : inputTokens) {
-                    if (ignoreCase) {
-                        inputToken = inputToken.toLowerCase(Locale.ROOT);
-                    }
-
-                    boolean foundMatch = false;
-
-                    for (final Iterator<String> iterator = suggestionTokens.iterator(); iterator.hasNext();) {
-                        final String suggestionToken = iterator.next();
-                        final String suggestionTokenLower =
-                                ignoreCase ? suggestionToken.toLowerCase(Locale.ROOT) : suggestionToken;
-                        if (suggestionTokenLower.contains(inputToken)) {
-                            iterator.remove();
-                            foundMatch = true;
-                            break;
-                        }
-                    }
-
-                    if (!foundMatch) {
-                        passed = false;
-                        break;
-                    }
-                }
-
-                return passed;
-            });
+            return new PartialTokenMatchFilter<>(ignoreCase);
         }
 
         /**
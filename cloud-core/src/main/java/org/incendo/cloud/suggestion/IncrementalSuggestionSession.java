@@ -0,0 +1,204 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.SuggestionContext;
+
+/**
+ * Session that remembers the previous request, see {@link SuggestionSession}.
+ * <p>
+ * If every provider of the previous request narrows by prefix and only the token being completed has been extended, then
+ * the unprocessed suggestions of the previous request are processed against the new input. Otherwise, the walk of the
+ * command tree is resumed from the deepest node that the previous request reached without querying any provider, using
+ * a copy of its context, as long as the tokens that lead to that node are unchanged. The walk only starts from the root
+ * if they have changed.
+ *
+ * @param <C> command sender type
+ * @param <S> suggestion type
+ */
+final class IncrementalSuggestionSession<C, S extends Suggestion> implements SuggestionSession<C, S> {
+
+    private static final char DELIMITER = ' ';
+
+    private final DelegatingSuggestionFactory<C, S> suggestionFactory;
+    private final C sender;
+    private volatile @Nullable Snapshot<C, S> snapshot;
+
+    IncrementalSuggestionSession(final @NonNull DelegatingSuggestionFactory<C, S> suggestionFactory, final @NonNull C sender) {
+        this.suggestionFactory = suggestionFactory;
+        this.sender = sender;
+    }
+
+    @Override
+    public @NonNull C sender() {
+        return this.sender;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(final @NonNull String input) {
+        final Snapshot<C, S> snapshot = this.snapshot;
+        if (snapshot != null && snapshot.extendsToken(input)) {
+            this.snapshot = snapshot.withInput(input);
+            return CompletableFuture.completedFuture(this.suggestionFactory.processSuggestions(
+                    snapshot.context,
+                    Objects.requireNonNull(snapshot.suggestions),
+                    CommandInput.of(input).cursor(snapshot.cursor)
+            ));
+        }
+
+        final long revision = this.suggestionFactory.commandRevision();
+        final CommandContext<C> context;
+        if (snapshot != null && snapshot.keepsResumePoint(input, revision)) {
+            final SuggestionContext.ResumePoint<?> resumePoint = Objects.requireNonNull(snapshot.resumePoint);
+            context = snapshot.resumeContext();
+            context.store(SuggestionContext.RESUME_FROM_KEY, resumePoint);
+        } else {
+            context = this.suggestionFactory.createContext(this.sender);
+        }
+        return this.suggestionFactory.collectUnprocessedSuggestions(context, input).thenApply(suggestions -> {
+            if (suggestions == null) {
+                this.snapshot = null;
+                return this.suggestionFactory.rejectedSuggestions(context, CommandInput.of(input));
+            }
+            final int cursor = suggestions.commandInput().cursor();
+            // If some provider builds its suggestions from the typed characters, then they must be requested again
+            final @Nullable List<S> reusable = context.getOrDefault(SuggestionContext.NARROWS_BY_PREFIX_KEY, false)
+                    ? suggestions.list()
+                    : null;
+            this.snapshot = new Snapshot<>(
+                    input,
+                    cursor,
+                    context,
+                    reusable,
+                    context.optional(SuggestionContext.RESUME_POINT_KEY).orElse(null),
+                    revision
+            );
+            return this.suggestionFactory.processSuggestions(
+                    context,
+                    suggestions.list(),
+                    CommandInput.of(input).cursor(cursor)
+            );
+        });
+    }
+
+    @Override
+    public void invalidate() {
+        this.snapshot = null;
+    }
+
+
+    private static final class Snapshot<C, S extends Suggestion> {
+
+        private final String input;
+        private final int cursor;
+        private final CommandContext<C> context;
+        private final @Nullable List<S> suggestions;
+        private final SuggestionContext.@Nullable ResumePoint<?> resumePoint;
+        private final long revision;
+
+        private Snapshot(
+                final @NonNull String input,
+                final int cursor,
+                final @NonNull CommandContext<C> context,
+                final @Nullable List<S> suggestions,
+                final SuggestionContext.@Nullable ResumePoint<?> resumePoint,
+                final long revision
+        ) {
+            this.input = input;
+            this.cursor = cursor;
+            this.context = context;
+            this.suggestions = suggestions;
+            this.resumePoint = resumePoint;
+            this.revision = revision;
+        }
+
+        private @NonNull Snapshot<C, S> withInput(final @NonNull String input) {
+            return new Snapshot<>(input, this.cursor, this.context, this.suggestions, this.resumePoint, this.revision);
+        }
+
+        /**
+         * Returns whether the given {@code input} only extends the token that the remembered suggestions were collected
+         * for, in which case the remembered suggestions can be processed against it.
+         *
+         * @param input the new input
+         * @return whether the suggestions can be reused
+         */
+        private boolean extendsToken(final @NonNull String input) {
+            if (this.suggestions == null || !input.startsWith(this.input) || this.cursor > this.input.length()) {
+                return false;
+            }
+            int tokenStart = this.cursor;
+            while (tokenStart < input.length() && input.charAt(tokenStart) == DELIMITER) {
+                tokenStart++;
+            }
+            if (tokenStart < this.input.length() && this.input.indexOf(DELIMITER, tokenStart) != -1) {
+                return false;
+            }
+            if (input.indexOf(DELIMITER, this.input.length()) != -1) {
+                return false;
+            }
+            // A complete token may be parsed differently, for example by entering a literal
+            final String token = input.substring(tokenStart);
+            for (final S suggestion : this.suggestions) {
+                if (suggestion.suggestion().equals(token)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns whether the given {@code input} keeps the tokens that lead to the resume point, and the delimiter that
+         * follows them, in which case the walk of the command tree can be resumed from it.
+         *
+         * @param input    the new input
+         * @param revision the current command revision
+         * @return whether the walk can be resumed
+         */
+        private boolean keepsResumePoint(final @NonNull String input, final long revision) {
+            if (this.resumePoint == null || this.revision != revision) {
+                return false;
+            }
+            final int end = Math.min(this.resumePoint.cursor() + 1, this.input.length());
+            return input.regionMatches(0, this.input, 0, end);
+        }
+
+        /**
+         * Returns a new context for resuming the walk from the resume point, holding the values of the tokens before it.
+         *
+         * @return the context
+         */
+        @SuppressWarnings("unchecked")
+        private @NonNull CommandContext<C> resumeContext() {
+            return ((CommandContext<C>) Objects.requireNonNull(this.resumePoint).context()).copy();
+        }
+    }
+}
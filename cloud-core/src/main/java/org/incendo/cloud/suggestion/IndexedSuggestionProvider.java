@@ -0,0 +1,192 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.SuggestionContext;
+
+/**
+ * Suggestion provider for large, static sets of suggestions.
+ * <p>
+ * The suggestions are sorted once when the provider is created, and every lookup finds the suggestions that start with
+ * the remaining input, ignoring case, using a binary search. A lookup therefore takes {@code O(log n + k)} time,
+ * where {@code k} is the number of returned suggestions, rather than the {@code O(n)} time it takes to filter every
+ * suggestion.
+ * <p>
+ * The returned suggestions are ordered alphabetically, ignoring case. They are marked as already filtered against the
+ * input they were looked up for, so that a {@link FilteringSuggestionProcessor} using the default filter returns them as
+ * they are instead of filtering them again for that input. Note that this means that suggestions that only contain the
+ * input, rather than starting with it, are not suggested.
+ * <p>
+ * The suggestions for an input include the suggestions for every longer input, so the provider
+ * {@link #narrowsByPrefix() narrows by prefix}.
+ * <p>
+ * If a {@link SuggestionFactory#SUGGESTION_LIMIT} without a comparator has been requested, then no more than that many
+ * suggestions are returned.
+ *
+ * @param <C> command sender type
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class IndexedSuggestionProvider<C> implements BlockingSuggestionProvider<C> {
+
+    private final String[] keys;
+    private final Suggestion[] suggestions;
+
+    private IndexedSuggestionProvider(final @NonNull List<@NonNull Suggestion> suggestions) {
+        final List<Suggestion> sorted = new ArrayList<>(suggestions);
+        sorted.sort(Comparator.comparing((Suggestion suggestion) -> suggestion.suggestion().toLowerCase(Locale.ROOT)));
+        this.keys = new String[sorted.size()];
+        this.suggestions = new Suggestion[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            final Suggestion suggestion = sorted.get(i);
+            this.keys[i] = suggestion.suggestion().toLowerCase(Locale.ROOT);
+            this.suggestions[i] = suggestion;
+        }
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the provider
+     */
+    public static <C> @NonNull IndexedSuggestionProvider<C> of(final @NonNull Iterable<@NonNull String> suggestions) {
+        final List<Suggestion> list = new ArrayList<>();
+        for (final String suggestion : suggestions) {
+            list.add(Suggestion.suggestion(suggestion));
+        }
+        return new IndexedSuggestionProvider<>(list);
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the provider
+     */
+    public static <C> @NonNull IndexedSuggestionProvider<C> of(final @NonNull String @NonNull... suggestions) {
+        return of(Arrays.asList(suggestions));
+    }
+
+    /**
+     * Creates a new provider that suggests the given {@code suggestions}.
+     * <p>
+     * Only suggestions created using {@link Suggestion#suggestion(String)} can be marked as already filtered. Other
+     * suggestion types are still filtered by the suggestion processor.
+     *
+     * @param <C>         command sender type
+     * @param suggestions the suggestions
+     * @return the provider
+     */
+    public static <C> @NonNull IndexedSuggestionProvider<C> ofSuggestions(
+            final @NonNull Iterable<? extends @NonNull Suggestion> suggestions
+    ) {
+        final List<Suggestion> list = new ArrayList<>();
+        suggestions.forEach(list::add);
+        return new IndexedSuggestionProvider<>(list);
+    }
+
+    /**
+     * Returns the number of indexed suggestions.
+     *
+     * @return the number of suggestions
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    @Override
+    public @NonNull List<@NonNull Suggestion> suggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandInput input
+    ) {
+        final String prefix;
+        if (input.isEmpty(true /* ignoreWhitespace */)) {
+            prefix = "";
+        } else {
+            prefix = input.copy().skipWhitespace().remainingInput().toLowerCase(Locale.ROOT);
+        }
+        final int limit = context.contains(SuggestionContext.COMPARATOR_KEY)
+                ? Integer.MAX_VALUE
+                : context.getOrDefault(SuggestionFactory.SUGGESTION_LIMIT, Integer.MAX_VALUE);
+        return this.startingWith(prefix, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Suggestions that are reused for a longer input are filtered again, as they are only marked as filtered for the input
+     * they were looked up for.
+     */
+    @Override
+    public boolean narrowsByPrefix() {
+        return true;
+    }
+
+    /**
+     * Returns the suggestions that start with the given lower case {@code prefix}, marked as filtered for that prefix.
+     *
+     * @param prefix the lower case prefix
+     * @param limit  the maximum number of suggestions to return
+     * @return the suggestions
+     */
+    @NonNull List<@NonNull Suggestion> startingWith(final @NonNull String prefix, final int limit) {
+        int low = 0;
+        int high = this.keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < this.keys.length && end - low < limit && this.keys[end].startsWith(prefix)) {
+            end++;
+        }
+        if (low == end) {
+            return Collections.emptyList();
+        }
+        final List<Suggestion> result = new ArrayList<>(end - low);
+        for (int i = low; i < end; i++) {
+            final Suggestion suggestion = this.suggestions[i];
+            result.add(suggestion instanceof SimpleSuggestion
+                    ? new SimpleSuggestion(suggestion.suggestion(), prefix)
+                    : suggestion);
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
@@ -47,6 +47,11 @@ final class NoSuggestions implements SuggestionProvider<Object> {
         return this.result;
     }
 
+    @Override
+    public boolean narrowsByPrefix() {
+        return true;
+    }
+
     @SuppressWarnings("unchecked")
     static <C> @NonNull SuggestionProvider<C> instance() {
         return (SuggestionProvider<C>) INSTANCE;
@@ -0,0 +1,196 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+
+/**
+ * Allocation-light implementation of {@link FilteringSuggestionProcessor.Filter#partialTokenMatches(boolean)}.
+ * <p>
+ * The input is tokenized (and case-folded) once, and the result is reused for as long as the filter keeps being
+ * invoked with the same input, which is the case for every suggestion of a single suggestion request. The suggestion
+ * tokens are matched in place, without splitting the suggestion into a list of tokens.
+ * <p>
+ * Tokens are split the same way {@link org.incendo.cloud.internal.CommandInputTokenizer} splits them: at every
+ * blank space, with a trailing empty token if the string ends with a blank space.
+ *
+ * @param <C> command sender type
+ */
+final class PartialTokenMatchFilter<C> implements FilteringSuggestionProcessor.Filter.Simple<C> {
+
+    private static final char DELIMITER = ' ';
+    private static final int MASK_SIZE = Long.SIZE;
+
+    private final boolean ignoreCase;
+    private volatile @Nullable InputTokens lastInput;
+
+    PartialTokenMatchFilter(final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Returns whether the filter ignores case.
+     *
+     * @return whether case is ignored
+     */
+    boolean ignoreCase() {
+        return this.ignoreCase;
+    }
+
+    @Override
+    public boolean test(
+            final @NonNull CommandPreprocessingContext<C> context,
+            final @NonNull String suggestion,
+            final @NonNull String input
+    ) {
+        return this.test(suggestion, input);
+    }
+
+    boolean test(final @NonNull String suggestion, final @NonNull String input) {
+        final String[] inputTokens = this.inputTokens(input);
+        if (inputTokens.length == 0) {
+            return true;
+        }
+
+        // Suggestion tokens that have already been matched by an input token. Indices past the mask are tracked
+        // in an array that is only allocated for suggestions with an unusual amount of tokens.
+        long usedMask = 0L;
+        boolean @Nullable [] usedOverflow = null;
+
+        for (final String inputToken : inputTokens) {
+            boolean foundMatch = false;
+
+            int tokenIndex = 0;
+            int position = 0;
+            final int length = suggestion.length();
+            while (true) {
+                while (position < length && suggestion.charAt(position) == DELIMITER) {
+                    position++;
+                }
+                final int start = position;
+                while (position < length && suggestion.charAt(position) != DELIMITER) {
+                    position++;
+                }
+                final int end = position;
+                if (start == end) {
+                    // Only the trailing empty token remains, which exists if the suggestion ends with a blank space.
+                    if (length == 0 || suggestion.charAt(length - 1) != DELIMITER) {
+                        break;
+                    }
+                }
+
+                final boolean used = tokenIndex < MASK_SIZE
+                        ? (usedMask & (1L << tokenIndex)) != 0
+                        : usedOverflow != null && usedOverflow[tokenIndex - MASK_SIZE];
+                if (!used && this.regionContains(suggestion, start, end, inputToken)) {
+                    if (tokenIndex < MASK_SIZE) {
+                        usedMask |= 1L << tokenIndex;
+                    } else {
+                        if (usedOverflow == null) {
+                            usedOverflow = new boolean[length];
+                        }
+                        usedOverflow[tokenIndex - MASK_SIZE] = true;
+                    }
+                    foundMatch = true;
+                    break;
+                }
+
+                if (start == end) {
+                    break;
+                }
+                tokenIndex++;
+            }
+
+            if (!foundMatch) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean regionContains(
+            final @NonNull String suggestion,
+            final int start,
+            final int end,
+            final @NonNull String inputToken
+    ) {
+        final int last = end - inputToken.length();
+        for (int offset = start; offset <= last; offset++) {
+            if (suggestion.regionMatches(this.ignoreCase, offset, inputToken, 0, inputToken.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private @NonNull String @NonNull [] inputTokens(final @NonNull String input) {
+        final InputTokens lastInput = this.lastInput;
+        if (lastInput != null && lastInput.input.equals(input)) {
+            return lastInput.tokens;
+        }
+        final InputTokens inputTokens = new InputTokens(input, tokenize(this.ignoreCase ? input.toLowerCase(Locale.ROOT) : input));
+        this.lastInput = inputTokens;
+        return inputTokens.tokens;
+    }
+
+    private static @NonNull String @NonNull [] tokenize(final @NonNull String input) {
+        final List<String> tokens = new ArrayList<>();
+        int position = 0;
+        final int length = input.length();
+        while (position < length) {
+            while (position < length && input.charAt(position) == DELIMITER) {
+                position++;
+            }
+            final int start = position;
+            while (position < length && input.charAt(position) != DELIMITER) {
+                position++;
+            }
+            if (start < position) {
+                tokens.add(input.substring(start, position));
+            }
+        }
+        if (length > 0 && input.charAt(length - 1) == DELIMITER) {
+            tokens.add("");
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+
+    private static final class InputTokens {
+
+        private final String input;
+        private final String[] tokens;
+
+        private InputTokens(final @NonNull String input, final @NonNull String @NonNull [] tokens) {
+            this.input = input;
+            this.tokens = tokens;
+        }
+    }
+}
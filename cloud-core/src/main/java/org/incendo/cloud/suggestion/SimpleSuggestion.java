@@ -25,13 +25,32 @@ package org.incendo.cloud.suggestion;
 
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class SimpleSuggestion implements Suggestion {
 
     private final String suggestion;
+    private final @Nullable String filteredFor;
 
     SimpleSuggestion(final @NonNull String suggestion) {
+        this(suggestion, null /* filteredFor */);
+    }
+
+    SimpleSuggestion(final @NonNull String suggestion, final @Nullable String filteredFor) {
         this.suggestion = suggestion;
+        this.filteredFor = filteredFor;
+    }
+
+    /**
+     * Returns whether the suggestion has already been filtered against the given lower case {@code input}, in which case
+     * {@link FilteringSuggestionProcessor} does not filter it again. A suggestion that is reused for a different input, such
+     * as a longer one, is filtered like any other suggestion. This does not affect equality.
+     *
+     * @param input the lower case input
+     * @return {@code true} if the suggestion has already been filtered against the {@code input}
+     */
+    boolean filteredFor(final @NonNull String input) {
+        return input.equals(this.filteredFor);
     }
 
     @Override
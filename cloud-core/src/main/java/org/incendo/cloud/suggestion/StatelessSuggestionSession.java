@@ -0,0 +1,58 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.concurrent.CompletableFuture;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Session that delegates every request to a {@link SuggestionFactory}.
+ *
+ * @param <C> command sender type
+ * @param <S> suggestion type
+ */
+final class StatelessSuggestionSession<C, S extends Suggestion> implements SuggestionSession<C, S> {
+
+    private final SuggestionFactory<C, S> suggestionFactory;
+    private final C sender;
+
+    StatelessSuggestionSession(final @NonNull SuggestionFactory<C, S> suggestionFactory, final @NonNull C sender) {
+        this.suggestionFactory = suggestionFactory;
+        this.sender = sender;
+    }
+
+    @Override
+    public @NonNull C sender() {
+        return this.sender;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(final @NonNull String input) {
+        return this.suggestionFactory.suggest(this.sender, input);
+    }
+
+    @Override
+    public void invalidate() {
+    }
+}
@@ -23,11 +23,17 @@
 //
 package org.incendo.cloud.suggestion;
 
+import java.util.Comparator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.internal.BoundedSuggestions;
+import org.incendo.cloud.internal.SuggestionSink;
+import org.incendo.cloud.key.CloudKey;
 
 /**
  * Factory that produces command suggestions from user input.
@@ -38,6 +44,14 @@ import org.incendo.cloud.context.CommandContext;
 @API(status = API.Status.STABLE)
 public interface SuggestionFactory<C, S extends Suggestion> {
 
+    /**
+     * Key that holds the maximum number of suggestions requested using
+     * {@link #suggest(CommandContext, String, int, Comparator)}. Suggestion providers may read it from the
+     * {@link CommandContext} to stop producing suggestions early.
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    CloudKey<Integer> SUGGESTION_LIMIT = CloudKey.of("__suggestion_limit__", Integer.class);
+
     /**
      * Returns command suggestions for the "next" argument that would yield a correctly
      * parsing command input
@@ -64,6 +78,101 @@ public interface SuggestionFactory<C, S extends Suggestion> {
             @NonNull String input
     );
 
+    /**
+     * Returns at most {@code limit} command suggestions for the "next" argument that would yield a correctly
+     * parsing command input.
+     * <p>
+     * If a {@code comparator} is given, then the smallest suggestions according to the comparator are returned in sorted
+     * order. Otherwise, the first suggestions are returned in the order in which they were produced. The limit is stored in
+     * the {@code context} using {@link #SUGGESTION_LIMIT}.
+     * <p>
+     * The default implementation collects all suggestions before bounding them.
+     *
+     * @param context    request context
+     * @param input      input provided by the sender
+     * @param limit      the maximum number of suggestions
+     * @param comparator the comparator used to select the suggestions, or {@code null}
+     * @return the suggestions
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
+    ) {
+        context.store(SUGGESTION_LIMIT, limit);
+        return this.suggest(context, input).thenApply(suggestions -> Suggestions.create(
+                suggestions.commandContext(),
+                BoundedSuggestions.bound(suggestions.list(), limit, comparator),
+                suggestions.commandInput()
+        ));
+    }
+
+    /**
+     * Returns at most {@code limit} command suggestions for the "next" argument that would yield a correctly
+     * parsing command input.
+     *
+     * @param sender     the sender
+     * @param input      input provided by the sender
+     * @param limit      the maximum number of suggestions
+     * @param comparator the comparator used to select the suggestions, or {@code null}
+     * @return the suggestions
+     * @see #suggest(CommandContext, String, int, Comparator)
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final int limit,
+            final @Nullable Comparator<? super S> comparator
+    ) {
+        return this.suggest(sender, input).thenApply(suggestions -> Suggestions.create(
+                suggestions.commandContext(),
+                BoundedSuggestions.bound(suggestions.list(), limit, comparator),
+                suggestions.commandInput()
+        ));
+    }
+
+    /**
+     * Delivers command suggestions for the "next" argument that would yield a correctly parsing command input to the given
+     * {@code consumer} as they become available.
+     * <p>
+     * The returned future completes once all suggestions have been delivered, or once {@code limit} suggestions have been
+     * delivered. Cancelling the future stops the delivery of further suggestions. The consumer may be invoked on any
+     * thread, but it is never invoked concurrently.
+     * <p>
+     * The default implementation delivers the suggestions once all of them have been collected.
+     *
+     * @param sender   the sender
+     * @param input    input provided by the sender
+     * @param limit    the maximum number of suggestions to deliver
+     * @param consumer the consumer that receives the suggestions
+     * @return future that completes once the delivery has ended
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull CompletableFuture<Void> suggestStreaming(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final int limit,
+            final @NonNull Consumer<? super S> consumer
+    ) {
+        final SuggestionSink<S> sink = new SuggestionSink<>(consumer, limit);
+        this.suggest(sender, input).whenComplete((suggestions, throwable) -> {
+            if (throwable != null) {
+                sink.completion().completeExceptionally(throwable);
+                return;
+            }
+            for (final S suggestion : suggestions.list()) {
+                if (!sink.offer(suggestion)) {
+                    return;
+                }
+            }
+            sink.completion().complete(null);
+        });
+        return sink.completion();
+    }
+
     /**
      * Returns command suggestions for the "next" argument that would yield a correctly
      * parsing command input
@@ -88,6 +197,19 @@ public interface SuggestionFactory<C, S extends Suggestion> {
         }
     }
 
+    /**
+     * Creates a new {@link SuggestionSession} for requests made by the given {@code sender}.
+     * <p>
+     * The default implementation returns a session that makes a new request to this factory for every input.
+     *
+     * @param sender the sender
+     * @return the session
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default @NonNull SuggestionSession<C, S> session(final @NonNull C sender) {
+        return new StatelessSuggestionSession<>(this, sender);
+    }
+
     /**
      * Returns a new suggestion factory that maps the results of {@code this} factory to the type {@link S2} using the
      * given {@code mapper}.
@@ -23,8 +23,10 @@
 //
 package org.incendo.cloud.suggestion;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.context.CommandContext;
@@ -59,6 +61,20 @@ public interface SuggestionProvider<C> {
             @NonNull CommandInput input
     );
 
+    /**
+     * Returns whether the suggestions for an input include every suggestion for the inputs that extend the token being
+     * completed, for example because the suggestions do not depend on the input at all.
+     * <p>
+     * An incremental {@link SuggestionSession} only reuses suggestions if every provider that contributed to them returns
+     * {@code true}, so providers that build their suggestions from the typed characters must not.
+     *
+     * @return whether the suggestions can be narrowed down as the token is extended
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    default boolean narrowsByPrefix() {
+        return false;
+    }
+
     /**
      * Get a suggestion provider that provides no suggestions.
      *
@@ -133,7 +149,20 @@ public interface SuggestionProvider<C> {
     static <C> @NonNull SuggestionProvider<C> suggesting(
             final @NonNull Iterable<? extends @NonNull Suggestion> suggestions
     ) {
-        return blocking((ctx, input) -> suggestions);
+        return new BlockingSuggestionProvider<C>() {
+            @Override
+            public @NonNull Iterable<? extends @NonNull Suggestion> suggestions(
+                    final @NonNull CommandContext<C> context,
+                    final @NonNull CommandInput input
+            ) {
+                return suggestions;
+            }
+
+            @Override
+            public boolean narrowsByPrefix() {
+                return true;
+            }
+        };
     }
 
     /**
@@ -146,6 +175,45 @@ public interface SuggestionProvider<C> {
     static <C> @NonNull SuggestionProvider<C> suggestingStrings(
             final @NonNull Iterable<@NonNull String> suggestions
     ) {
-        return blockingStrings((ctx, input) -> suggestions);
+        return new BlockingSuggestionProvider.Strings<C>() {
+            @Override
+            public @NonNull Iterable<@NonNull String> stringSuggestions(
+                    final @NonNull CommandContext<C> context,
+                    final @NonNull CommandInput input
+            ) {
+                return suggestions;
+            }
+
+            @Override
+            public boolean narrowsByPrefix() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Create a {@link SuggestionProvider} that caches the suggestions of the given {@code provider}, see
+     * {@link CachedSuggestionProvider}.
+     * <p>
+     * The {@code keyFunction} decides which requests share suggestions. It should return a key that covers everything
+     * that the suggestions of the {@code provider} depend on, for example the sender and the
+     * {@link CommandInput#lastRemainingToken() token} that is being completed, or {@code null} if the request should not
+     * be cached.
+     *
+     * @param provider    the provider to cache
+     * @param keyFunction function that computes the cache key of a request
+     * @param timeToLive  how long the suggestions are cached for
+     * @param maximumSize the maximum number of cached keys
+     * @param <C>         command sender type
+     * @return suggestion provider
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    static <C> @NonNull CachedSuggestionProvider<C> cached(
+            final @NonNull SuggestionProvider<C> provider,
+            final @NonNull BiFunction<@NonNull CommandContext<C>, @NonNull CommandInput, ?> keyFunction,
+            final @NonNull Duration timeToLive,
+            final int maximumSize
+    ) {
+        return new CachedSuggestionProvider<>(provider, keyFunction, timeToLive, maximumSize, System::nanoTime);
     }
 }
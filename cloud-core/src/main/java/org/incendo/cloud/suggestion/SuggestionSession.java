@@ -0,0 +1,75 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.concurrent.CompletableFuture;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Stateful suggestion requests made by a single sender while they type a command.
+ * <p>
+ * Sessions created by the command manager's {@link SuggestionFactory} are incremental. They remember the suggestions
+ * that were collected for the previous input, before they were processed. If the next input only extends the token that
+ * is being completed, for example when a character is typed, then the command is not parsed again and no suggestion
+ * providers are invoked. The remembered suggestions are instead processed against the new input.
+ * <p>
+ * Suggestions are only remembered if every suggestion provider that contributed to them
+ * {@link SuggestionProvider#narrowsByPrefix() narrows by prefix}, as is the case for literals and constant suggestions.
+ * Suggestions that are built from the typed characters, such as those of the number parsers, are collected again for every
+ * input. Remembered suggestions are also collected again as soon as the input is not an extension of the previous input,
+ * when whitespace is typed, or when the typed token equals one of the remembered suggestions.
+ * <p>
+ * When suggestions are collected again, the walk of the command tree is resumed from where the previous request reached,
+ * with the values of the tokens that lead there, so that those tokens are not parsed again. The walk only starts over
+ * from the root if one of those tokens has changed, or if commands have been registered or deleted since.
+ *
+ * @param <C> command sender type
+ * @param <S> suggestion type
+ * @see SuggestionFactory#session(Object)
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface SuggestionSession<C, S extends Suggestion> {
+
+    /**
+     * Returns the sender that the suggestions are made for.
+     *
+     * @return the sender
+     */
+    @NonNull C sender();
+
+    /**
+     * Returns command suggestions for the "next" argument that would yield a correctly parsing command input, reusing
+     * the suggestions of the previous request if possible.
+     *
+     * @param input input provided by the sender
+     * @return the suggestions
+     */
+    @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(@NonNull String input);
+
+    /**
+     * Forgets the remembered suggestions and parsed tokens, so that the next request collects them again.
+     */
+    void invalidate();
+}
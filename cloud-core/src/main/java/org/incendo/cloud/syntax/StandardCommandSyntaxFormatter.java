@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -39,7 +40,10 @@ import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
 import org.incendo.cloud.parser.flag.CommandFlag;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
+import org.incendo.cloud.permission.AndPermission;
+import org.incendo.cloud.permission.OrPermission;
 import org.incendo.cloud.permission.Permission;
+import org.incendo.cloud.permission.PredicatePermission;
 
 /**
  * {@link CommandSyntaxFormatter} implementation that uses the following rules:
@@ -50,13 +54,22 @@ import org.incendo.cloud.permission.Permission;
  *     <li>does not render arguments the sender does not have access to (either due to permission or sender type requirements)
  *     </li>
  * </ul>
+ * <p>
+ * The formatted strings are memoized per component chain and node, and are only reused as long as the
+ * {@link CommandManager#commandRevision() registered commands} have not changed since they were formatted. Results that depend on the permissions of the
+ * sender are only cached if the formatter is {@link #StandardCommandSyntaxFormatter(CommandManager, boolean) sender-agnostic}.
  *
  * @param <C> command sender type
  */
 @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
 public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter<C> {
 
+    private static final int MAX_CACHED_SYNTAX = 4096;
+
+    private final Map<SyntaxKey, CachedSyntax> cache = new ConcurrentHashMap<>();
     private final CommandManager<C> manager;
+    private final boolean senderAgnostic;
+    private volatile long revision = -1;
 
     /**
      * Creates a new {@link StandardCommandSyntaxFormatter}.
@@ -64,7 +77,22 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
      * @param manager command manager
      */
     public StandardCommandSyntaxFormatter(final @NonNull CommandManager<C> manager) {
+        this(manager, false /* senderAgnostic */);
+    }
+
+    /**
+     * Creates a new {@link StandardCommandSyntaxFormatter}.
+     * <p>
+     * If {@code senderAgnostic} is {@code true} then all arguments are rendered regardless of the sender,
+     * which allows for all results to be memoized.
+     *
+     * @param manager        command manager
+     * @param senderAgnostic whether to ignore the sender when rendering the syntax
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    public StandardCommandSyntaxFormatter(final @NonNull CommandManager<C> manager, final boolean senderAgnostic) {
         this.manager = manager;
+        this.senderAgnostic = senderAgnostic;
     }
 
     /**
@@ -76,14 +104,33 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
             final @NonNull List<@NonNull CommandComponent<C>> commandComponents,
             final @Nullable CommandNode<C> node
     ) {
-        return this.apply(commandComponents, node, n -> {
-            if (sender == null) {
-                return true;
-            }
+        final long revision = this.manager.commandRevision();
+        if (revision != this.revision) {
+            // Only frees the stale entries, entries are checked against the revision they were formatted for.
+            this.cache.clear();
+            this.revision = revision;
+        }
+
+        final boolean filtered = sender != null && !this.senderAgnostic;
+        final SyntaxKey key = new SyntaxKey(commandComponents, node);
+        final CachedSyntax cached = this.cache.get(key);
+        // Results that are independent of the sender are valid for all requests.
+        if (cached != null && cached.revision == revision && (!filtered || cached.senderIndependent)) {
+            return cached.syntax;
+        }
+
+        final boolean[] senderIndependent = new boolean[] {true};
+        final String syntax = this.apply(commandComponents, node, n -> {
             final Map<Type, Permission> accessMap = n.nodeMeta().getOrDefault(
                     CommandNode.META_KEY_ACCESS,
                     Collections.emptyMap()
             );
+            if (!isUnrestricted(accessMap)) {
+                senderIndependent[0] = false;
+            }
+            if (!filtered) {
+                return true;
+            }
             for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
                 if (GenericTypeReflector.isSuperType(entry.getKey(), sender.getClass())) {
                     if (this.manager.testPermission(sender, entry.getValue()).allowed()) {
@@ -93,6 +140,41 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
             }
             return false;
         });
+
+        // Filtered results can only be shared if no node was restricted.
+        if (!filtered || senderIndependent[0]) {
+            if (this.cache.size() >= MAX_CACHED_SYNTAX) {
+                this.cache.clear();
+            }
+            this.cache.put(key, new CachedSyntax(revision, syntax, senderIndependent[0]));
+        }
+        return syntax;
+    }
+
+    private static boolean isUnrestricted(final @NonNull Map<Type, Permission> accessMap) {
+        final Permission permission = accessMap.get(Object.class);
+        return permission != null && isUnrestricted(permission);
+    }
+
+    private static boolean isUnrestricted(final @NonNull Permission permission) {
+        if (permission instanceof PredicatePermission) {
+            return false;
+        } else if (permission instanceof OrPermission) {
+            for (final Permission innerPermission : permission.permissions()) {
+                if (isUnrestricted(innerPermission)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (permission instanceof AndPermission) {
+            for (final Permission innerPermission : permission.permissions()) {
+                if (!isUnrestricted(innerPermission)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return permission.isEmpty();
     }
 
     private @NonNull String apply(
@@ -362,4 +444,61 @@ public class StandardCommandSyntaxFormatter<C> implements CommandSyntaxFormatter
             this.builder.append(' ');
         }
     }
+
+
+    private static final class SyntaxKey {
+
+        private final Object[] components;
+        private final CommandNode<?> node;
+        private final int hashCode;
+
+        private SyntaxKey(final @NonNull List<? extends CommandComponent<?>> components, final @Nullable CommandNode<?> node) {
+            this.components = components.toArray();
+            this.node = node;
+            int hashCode = System.identityHashCode(node);
+            for (final Object component : this.components) {
+                hashCode = 31 * hashCode + System.identityHashCode(component);
+            }
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final SyntaxKey that = (SyntaxKey) object;
+            if (this.hashCode != that.hashCode || this.node != that.node || this.components.length != that.components.length) {
+                return false;
+            }
+            for (int i = 0; i < this.components.length; i++) {
+                if (this.components[i] != that.components[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+
+    private static final class CachedSyntax {
+
+        private final long revision;
+        private final String syntax;
+        private final boolean senderIndependent;
+
+        private CachedSyntax(final long revision, final @NonNull String syntax, final boolean senderIndependent) {
+            this.revision = revision;
+            this.syntax = syntax;
+            this.senderIndependent = senderIndependent;
+        }
+    }
 }
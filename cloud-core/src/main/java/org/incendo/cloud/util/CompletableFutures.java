@@ -23,8 +23,12 @@
 //
 package org.incendo.cloud.util;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apiguardian.api.API;
@@ -69,4 +73,88 @@ public final class CompletableFutures {
     ) {
         return CompletableFuture.supplyAsync(futureSupplier, executor).thenCompose(Function.identity());
     }
+
+    /**
+     * Returns a future that completes with the given {@code future}, and runs the given {@code action} once the
+     * returned future has been completed.
+     * <p>
+     * Stages that depend on the returned future and were added before it completed run before the {@code action}.
+     *
+     * @param <T>    future result type
+     * @param future the future
+     * @param action the action to run after completion
+     * @return the future
+     */
+    public static <T> @NonNull CompletableFuture<T> thenRunAfterCompletion(
+            final @NonNull CompletableFuture<T> future,
+            final @NonNull Runnable action
+    ) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            try {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            } finally {
+                action.run();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a future that completes with the given {@code future}, or with the given {@code value} if the {@code future}
+     * has not completed within the given {@code timeout}.
+     *
+     * <p>This is similar to {@code CompletableFuture.completeOnTimeout(Object, long, TimeUnit)} that was introduced in
+     * Java 9, but it does not complete the given {@code future}.</p>
+     *
+     * @param <T>     future result type
+     * @param future  the future
+     * @param value   the value to complete with on timeout
+     * @param timeout the timeout
+     * @return the future
+     */
+    public static <T> @NonNull CompletableFuture<T> completeOnTimeout(
+            final @NonNull CompletableFuture<T> future,
+            final T value,
+            final @NonNull Duration timeout
+    ) {
+        if (future.isDone()) {
+            return future;
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeoutTask = TimeoutScheduler.INSTANCE.schedule(
+                () -> result.complete(value),
+                timeout.toNanos(),
+                TimeUnit.NANOSECONDS
+        );
+        future.whenComplete((futureValue, throwable) -> {
+            timeoutTask.cancel(false /* mayInterruptIfRunning */);
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(futureValue);
+            }
+        });
+        return result;
+    }
+
+
+    private static final class TimeoutScheduler {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+        private static @NonNull ScheduledThreadPoolExecutor createScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, "cloud-future-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
 }
@@ -23,8 +23,15 @@
 //
 package org.incendo.cloud;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.description.Description;
@@ -37,6 +44,7 @@ import org.incendo.cloud.parser.standard.StringParser;
 import org.incendo.cloud.setting.ManagerSetting;
 import org.incendo.cloud.suggestion.FilteringSuggestionProcessor;
 import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionFactory;
 import org.incendo.cloud.suggestion.SuggestionProvider;
 import org.incendo.cloud.util.StringUtils;
 import org.junit.jupiter.api.Assertions;
@@ -861,6 +869,180 @@ class CommandSuggestionsTest {
         );
     }
 
+    @Test
+    void testLimitedSuggestionsKeepFirstMatches() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.manager.suggestionFactory()
+                .suggest(new TestCommandSender(), "partial he", 2, null)
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("hey", "heya")).inOrder();
+    }
+
+    @Test
+    void testLimitedSuggestionsUseComparator() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.manager.suggestionFactory()
+                .suggest(new TestCommandSender(), "partial h", 3, Comparator.comparing(Suggestion::suggestion))
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("hai", "hello", "hey")).inOrder();
+    }
+
+    @Test
+    void testSuggestionLimitIsVisibleToProviders() {
+        // Arrange
+        final List<Integer> limits = new ArrayList<>();
+        this.manager.command(this.manager.commandBuilder("limited")
+                .required(
+                        "arg",
+                        stringParser(),
+                        SuggestionProvider.blocking((ctx, in) -> {
+                            limits.add(ctx.get(SuggestionFactory.SUGGESTION_LIMIT));
+                            return suggestionList("a", "b");
+                        })
+                ));
+
+        // Act
+        this.manager.suggestionFactory().suggest(new TestCommandSender(), "limited ", 5, null).join();
+
+        // Assert
+        assertThat(limits).containsExactly(5);
+    }
+
+    @Test
+    void testLimitedSuggestionsSkipProvidersOnceFull() {
+        // Arrange
+        final List<String> queried = new ArrayList<>();
+        final SuggestionProvider<TestCommandSender> provider = SuggestionProvider.blocking((ctx, in) -> {
+            queried.add(in.remainingInput());
+            return suggestionList("a", "b");
+        });
+        this.manager.command(this.manager.commandBuilder("full").literal("fast"));
+        this.manager.command(this.manager.commandBuilder("full").required("arg", stringParser(), provider));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.manager.suggestionFactory()
+                .suggest(new TestCommandSender(), "full ", 1, null)
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("fast"));
+        assertThat(queried).isEmpty();
+    }
+
+    @Test
+    void testAsyncProviderSuggestionsKeepOrder() {
+        // Arrange
+        final SuggestionProvider<TestCommandSender> provider =
+                (ctx, in) -> CompletableFuture.supplyAsync(() -> suggestionList("slow", "slower"));
+        this.manager.command(this.manager.commandBuilder("async").literal("fast"));
+        this.manager.command(this.manager.commandBuilder("async").required("arg", stringParser(), provider));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.suggest(this.manager, "async ");
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("fast", "slow", "slower")).inOrder();
+    }
+
+    @Test
+    void testTimedOutProviderIsSkipped() {
+        // Arrange
+        final SuggestionProvider<TestCommandSender> provider = (ctx, in) -> new CompletableFuture<>();
+        this.manager.suggestionProviderTimeout(Duration.ofMillis(50));
+        this.manager.command(this.manager.commandBuilder("timeout").literal("fast"));
+        this.manager.command(this.manager.commandBuilder("timeout").required("arg", stringParser(), provider));
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.suggest(this.manager, "timeout ");
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("fast"));
+    }
+
+    @Test
+    void testStreamingDeliversCompletedProvidersFirst() {
+        // Arrange
+        final CompletableFuture<List<Suggestion>> slow = new CompletableFuture<>();
+        final SuggestionProvider<TestCommandSender> provider = (ctx, in) -> slow;
+        this.manager.command(this.manager.commandBuilder("stream").literal("fast"));
+        this.manager.command(this.manager.commandBuilder("stream").required("arg", stringParser(), provider));
+        final List<Suggestion> delivered = new ArrayList<>();
+
+        // Act
+        final CompletableFuture<Void> future = this.manager.suggestionFactory()
+                .suggestStreaming(new TestCommandSender(), "stream ", 10, delivered::add);
+        final List<Suggestion> deliveredBeforeSlow = new ArrayList<>(delivered);
+        slow.complete(suggestionList("slow"));
+        future.join();
+
+        // Assert
+        assertThat(deliveredBeforeSlow).containsExactlyElementsIn(suggestionList("fast"));
+        assertThat(delivered).containsExactlyElementsIn(suggestionList("fast", "slow")).inOrder();
+    }
+
+    @Test
+    void testStreamingStopsAtLimit() {
+        // Arrange
+        final SuggestionProvider<TestCommandSender> provider = (ctx, in) -> new CompletableFuture<>();
+        this.manager.command(this.manager.commandBuilder("stream").literal("fast"));
+        this.manager.command(this.manager.commandBuilder("stream").required("arg", stringParser(), provider));
+        final List<Suggestion> delivered = new ArrayList<>();
+
+        // Act
+        final CompletableFuture<Void> future = this.manager.suggestionFactory()
+                .suggestStreaming(new TestCommandSender(), "stream ", 1, delivered::add);
+
+        // Assert
+        assertThat(future.isDone()).isTrue();
+        assertThat(delivered).containsExactlyElementsIn(suggestionList("fast"));
+    }
+
+    @Test
+    void testBlockingProviderDoesNotHoldUpOtherProviders() {
+        // Arrange
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CommandManager<TestCommandSender> manager = new CommandManager<TestCommandSender>(
+                ExecutionCoordinator.<TestCommandSender>builder().suggestionsExecutor(executor).build(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final TestCommandSender sender, final String permission) {
+                return true;
+            }
+        };
+        manager.suggestionProviderTimeout(Duration.ofMillis(50));
+        final SuggestionProvider<TestCommandSender> blocking = SuggestionProvider.blocking((ctx, in) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return suggestionList("blocked");
+        });
+        manager.command(manager.commandBuilder("blocking").required("arg", stringParser(), blocking));
+        manager.command(manager.commandBuilder("blocking").literal("fast"));
+
+        // Act
+        final List<? extends Suggestion> suggestions;
+        try {
+            suggestions = this.suggest(manager, "blocking ");
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("fast"));
+    }
+
     private static CommandManager<TestCommandSender> createTestManager() {
         return new CommandManager<TestCommandSender>(
                 ExecutionCoordinator.simpleCoordinator(),
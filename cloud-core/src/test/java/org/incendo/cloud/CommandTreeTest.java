@@ -24,6 +24,7 @@
 package org.incendo.cloud;
 
 import io.leangen.geantyref.TypeToken;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -39,6 +40,7 @@ import org.incendo.cloud.exception.AmbiguousNodeException;
 import org.incendo.cloud.exception.NoPermissionException;
 import org.incendo.cloud.execution.CommandExecutionHandler;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
 import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.meta.CommandMeta;
 import org.incendo.cloud.parser.flag.CommandFlag;
@@ -410,6 +412,46 @@ class CommandTreeTest {
         assertThat(context.flags().<FlagEnum>getValue("enum")).hasValue(FlagEnum.POTATO);
     }
 
+    @Test
+    void testInsertCommandsRegistersEveryCommand() {
+        // Arrange
+        final CommandRegistrationHandler<TestCommandSender> registrationHandler = mock(CommandRegistrationHandler.class);
+        when(this.commandManager.commandRegistrationHandler()).thenReturn(registrationHandler);
+        final Command<TestCommandSender> parent = this.commandManager.commandBuilder("batch").build();
+        final Command<TestCommandSender> child = this.commandManager.commandBuilder("batch").literal("child").build();
+
+        // Act
+        this.commandManager.command(Arrays.asList(parent, child));
+
+        // Assert
+        verify(registrationHandler).registerCommand(parent);
+        verify(registrationHandler).registerCommand(child);
+        assertThat(this.commandManager.commands()).containsExactly(parent, child);
+    }
+
+    @Test
+    void testInsertCommandsRollsBackOnFailure() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("ambiguous")
+                .required("string", stringParser())
+        );
+        final Command<TestCommandSender> valid = this.commandManager.commandBuilder("valid")
+                .literal("sub", "alias")
+                .build();
+        final Command<TestCommandSender> ambiguous = this.commandManager.commandBuilder("ambiguous")
+                .required("integer", integerParser())
+                .build();
+
+        // Act
+        assertThrows(AmbiguousNodeException.class, () -> this.commandManager.command(Arrays.asList(valid, ambiguous)));
+
+        // Assert
+        assertThat(this.commandManager.commandTree().getNamedNode("valid")).isNull();
+        assertThat(this.commandManager.commands()).doesNotContain(valid);
+        this.commandManager.command(valid);
+        assertThat(this.commandManager.commandTree().getNamedNode("valid")).isNotNull();
+    }
+
     @Test
     void testAmbiguousNodes() {
         // Call setup(); after each time we leave the Tree in an invalid state
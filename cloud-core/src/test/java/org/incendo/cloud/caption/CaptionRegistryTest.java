@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.caption;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.TestCommandSender;
@@ -75,6 +77,40 @@ class CaptionRegistryTest {
         );
     }
 
+    @Test
+    void cachingRegistryCachesByProviderKey() {
+        // Arrange
+        final CaptionRegistry<TestCommandSender> registry = CaptionRegistry.cachingCaptionRegistry();
+        final Caption caption = Caption.of("key");
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicReference<String> value = new AtomicReference<>("first");
+        registry.registerProvider(new CaptionProvider<TestCommandSender>() {
+            @Override
+            public String provide(final @NonNull Caption key, final @NonNull TestCommandSender recipient) {
+                invocations.incrementAndGet();
+                return value.get();
+            }
+
+            @Override
+            public Object cacheKey(final @NonNull TestCommandSender recipient) {
+                return "key";
+            }
+        });
+
+        // Act
+        final String first = registry.caption(caption, new TestCommandSender());
+        final String second = registry.caption(caption, new TestCommandSender());
+        value.set("second");
+        registry.invalidateCaches();
+        final String third = registry.caption(caption, new TestCommandSender());
+
+        // Assert
+        assertThat(first).isEqualTo("first");
+        assertThat(second).isEqualTo("first");
+        assertThat(third).isEqualTo("second");
+        assertThat(invocations.get()).isEqualTo(2);
+    }
+
     static Stream<@NonNull Caption> registryProvidersValuesForAllStandardKeysSource() {
         return StandardCaptionKeys.standardCaptionKeys().stream();
     }
@@ -55,4 +55,31 @@ class PlaceholderReplacingCaptionFormatterTest {
         // Assert
         assertThat(formatted).isEqualTo("caption with a foo and maybe another bar but also a missing <var>");
     }
+
+    @Test
+    void replacesPlaceholdersUsingCachedTemplate() {
+        // Arrange
+        final Caption captionKey = Caption.of("key");
+        final TestCommandSender commandSender = new TestCommandSender();
+        final String caption = "<first> costs <price>";
+        this.captionFormatter.formatCaption(
+                captionKey,
+                commandSender,
+                caption,
+                CaptionVariable.of("first", "a"),
+                CaptionVariable.of("price", "1")
+        );
+
+        // Act
+        final String formatted = this.captionFormatter.formatCaption(
+                captionKey,
+                commandSender,
+                caption,
+                CaptionVariable.of("first", "b"),
+                CaptionVariable.of("price", "$5\\")
+        );
+
+        // Assert
+        assertThat(formatted).isEqualTo("b costs $5\\");
+    }
 }
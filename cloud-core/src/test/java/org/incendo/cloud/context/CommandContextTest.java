@@ -0,0 +1,217 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.component.TypedCommandComponent;
+import org.incendo.cloud.execution.CommandResult;
+import org.incendo.cloud.key.CloudKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandContextTest {
+
+    private static final TypedCommandComponent<TestCommandSender, Integer> NUMBER =
+            CommandComponent.<TestCommandSender, Integer>builder("number", integerParser()).build();
+    private static final TypedCommandComponent<TestCommandSender, String> NAME =
+            CommandComponent.<TestCommandSender, String>builder("name", stringParser()).optional().build();
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .argument(NUMBER)
+                        .argument(NAME)
+        );
+    }
+
+    @Test
+    void testComponentValuesAreStoredInSlots() throws Exception {
+        // Act
+        final CommandContext<TestCommandSender> context = this.execute("test 42 abc");
+
+        // Assert
+        assertThat(context.optional(NUMBER)).hasValue(42);
+        assertThat(context.get(NAME)).isEqualTo("abc");
+        assertThat(context.<Integer>get("number")).isEqualTo(42);
+        assertThat(context.contains(CloudKey.of("name"))).isTrue();
+        assertThat(context.all()).containsEntry(CloudKey.of("number"), 42);
+        assertThat(context.all()).containsKey(CloudKey.of("__raw_input__"));
+    }
+
+    @Test
+    void testValuesOfLongCommandAreStoredInSlots() throws Exception {
+        // Arrange
+        Command.Builder<TestCommandSender> builder = this.commandManager.commandBuilder("long");
+        for (int i = 0; i < 12; i++) {
+            builder = builder.required("arg" + i, integerParser());
+        }
+        this.commandManager.command(builder);
+
+        // Act
+        final CommandContext<TestCommandSender> context = this.execute("long 0 1 2 3 4 5 6 7 8 9 10 11");
+
+        // Assert
+        for (int i = 0; i < 12; i++) {
+            assertThat(context.<Integer>get("arg" + i)).isEqualTo(i);
+        }
+        assertThat(context.contains(CloudKey.of("__raw_input__"))).isTrue();
+    }
+
+    @Test
+    void testMissingComponentValue() throws Exception {
+        // Act
+        final CommandContext<TestCommandSender> context = this.execute("test 42");
+
+        // Assert
+        assertThat(context.optional(NAME)).isEmpty();
+        assertThat(context.contains(NAME)).isFalse();
+    }
+
+    @Test
+    void testAllIsCachedUntilChanged() throws Exception {
+        // Arrange
+        final CommandContext<TestCommandSender> context = this.execute("test 42 abc");
+        final Map<CloudKey<?>, ?> first = context.all();
+
+        // Act
+        final Map<CloudKey<?>, ?> second = context.all();
+        context.store("number", 1337);
+        final Map<CloudKey<?>, ?> third = context.all();
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(first).containsEntry(CloudKey.of("number"), 42);
+        assertThat(third).containsEntry(CloudKey.of("number"), 1337);
+    }
+
+    @Test
+    void testStoreByNameReplacesComponentValue() throws Exception {
+        // Arrange
+        final CommandContext<TestCommandSender> context = this.execute("test 42 abc");
+
+        // Act
+        context.store("number", 1337);
+        context.remove(CloudKey.of("name"));
+
+        // Assert
+        assertThat(context.optional(NUMBER)).hasValue(1337);
+        assertThat(context.all()).containsEntry(CloudKey.of("number"), 1337);
+        assertThat(context.optional(NAME)).isEmpty();
+        assertThat(context.all()).doesNotContainKey(CloudKey.of("name"));
+    }
+
+    @Test
+    void testSnapshotIsNotAffectedByLaterChanges() throws Exception {
+        // Arrange
+        final CommandContext<TestCommandSender> context = this.execute("test 42 abc");
+        final CommandContext<TestCommandSender> snapshot = context.snapshot();
+
+        // Act
+        context.store(NUMBER.key(), 1337);
+        context.store("extra", "value");
+
+        // Assert
+        assertThat(context.snapshot()).isNotSameInstanceAs(snapshot);
+        assertThat(snapshot.optional(NUMBER)).hasValue(42);
+        assertThat(snapshot.get(NAME)).isEqualTo("abc");
+        assertThat(snapshot.contains(CloudKey.of("extra"))).isFalse();
+        assertThat(snapshot.sender()).isSameInstanceAs(context.sender());
+    }
+
+    @Test
+    void testPooledContextIsReleasedAndReused() throws Exception {
+        // Arrange
+        this.commandManager.commandContextPoolSize(1);
+        final List<CommandContext<TestCommandSender>> contexts = new ArrayList<>();
+
+        // Act
+        final CommandResult<TestCommandSender> first = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "test 42 abc", contexts::add)
+                .get();
+        final CommandResult<TestCommandSender> second = this.commandManager.commandExecutor()
+                .executeCommand(new TestCommandSender(), "test 7", contexts::add)
+                .get();
+
+        // Assert
+        assertThat(contexts.get(1)).isSameInstanceAs(contexts.get(0));
+        assertThat(first.commandContext()).isNotSameInstanceAs(contexts.get(0));
+        assertThrows(IllegalStateException.class, () -> contexts.get(0).sender());
+        assertThrows(IllegalStateException.class, () -> first.commandContext().optional(NUMBER));
+        assertThrows(IllegalStateException.class, () -> second.commandContext().sender());
+    }
+
+    @Test
+    void testPooledContextIsReinitializedForHandler() throws Exception {
+        // Arrange
+        this.commandManager.commandContextPoolSize(1);
+        final List<TestCommandSender> senders = new ArrayList<>();
+        final List<Integer> numbers = new ArrayList<>();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("capture")
+                        .argument(NUMBER)
+                        .handler(context -> {
+                            senders.add(context.sender());
+                            numbers.add(context.get(NUMBER));
+                        })
+        );
+        final TestCommandSender first = new TestCommandSender();
+        final TestCommandSender second = new TestCommandSender();
+
+        // Act
+        this.execute(first, "capture 1");
+        this.execute(second, "capture 2");
+
+        // Assert
+        assertThat(senders).containsExactly(first, second).inOrder();
+        assertThat(numbers).containsExactly(1, 2).inOrder();
+    }
+
+    private CommandContext<TestCommandSender> execute(final String input) throws Exception {
+        return this.execute(new TestCommandSender(), input);
+    }
+
+    private CommandContext<TestCommandSender> execute(final TestCommandSender sender, final String input) throws Exception {
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor().executeCommand(
+                sender,
+                input
+        ).get();
+        return result.commandContext();
+    }
+}
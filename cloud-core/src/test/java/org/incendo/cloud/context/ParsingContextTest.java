@@ -23,8 +23,10 @@
 //
 package org.incendo.cloud.context;
 
+import java.util.NoSuchElementException;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.execution.CommandResult;
 import org.incendo.cloud.parser.standard.IntegerParser;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
 import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
 import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ParsingContextTest {
 
@@ -88,4 +91,53 @@ class ParsingContextTest {
         assertThat(context.parsingContext("foo").exactAlias()).isEqualTo("f");
         assertThat(context.parsingContext("bar").exactAlias()).isEqualTo("bar");
     }
+
+    @Test
+    void testRecordingDisabled() throws Exception {
+        // Arrange
+        this.commandManager.parsingContextSampler(ParsingContextSampler.never());
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .required("int", IntegerParser.integerParser())
+        );
+
+        // Act
+        final CommandResult<TestCommandSender> result = this.commandManager.commandExecutor().executeCommand(
+                new TestCommandSender(),
+                "test 1337"
+        ).get();
+
+        // Assert
+        final CommandContext<TestCommandSender> context = result.commandContext();
+        assertThat(context.isRecordingParsingContexts()).isFalse();
+        assertThat(context.parsingContexts()).isEmpty();
+        assertThat(context.<Integer>get("int")).isEqualTo(1337);
+    }
+
+    @Test
+    void testLookupIndexIncludesLaterContexts() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.commandManager);
+        final CommandComponent<TestCommandSender> first = CommandComponent.<TestCommandSender, Integer>builder()
+                .name("first")
+                .parser(IntegerParser.integerParser())
+                .build();
+        final CommandComponent<TestCommandSender> second = CommandComponent.<TestCommandSender, Integer>builder()
+                .name("second")
+                .parser(IntegerParser.integerParser())
+                .build();
+        final ParsingContext<TestCommandSender> firstContext = context.createParsingContext(first);
+
+        // Act
+        final ParsingContext<TestCommandSender> firstLookup = context.parsingContext("first");
+        final ParsingContext<TestCommandSender> secondContext = context.createParsingContext(second);
+        context.createParsingContext(first);
+
+        // Assert
+        assertThat(firstLookup).isSameInstanceAs(firstContext);
+        assertThat(context.parsingContext("second")).isSameInstanceAs(secondContext);
+        assertThat(context.parsingContext(second)).isSameInstanceAs(secondContext);
+        assertThat(context.parsingContext("first")).isSameInstanceAs(firstContext);
+        assertThrows(NoSuchElementException.class, () -> context.parsingContext("third"));
+    }
 }
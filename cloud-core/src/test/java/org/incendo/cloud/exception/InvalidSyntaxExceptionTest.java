@@ -0,0 +1,62 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.exception;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SuppressWarnings("ThrowableNotThrown")
+class InvalidSyntaxExceptionTest {
+
+    @Test
+    void testLazySyntaxAndChain() {
+        AtomicInteger syntaxInvocations = new AtomicInteger();
+        AtomicInteger chainInvocations = new AtomicInteger();
+        InvalidSyntaxException exception = new InvalidSyntaxException(
+                () -> {
+                    syntaxInvocations.incrementAndGet();
+                    return "test <arg>";
+                },
+                new Object(),
+                () -> {
+                    chainInvocations.incrementAndGet();
+                    return Collections.emptyList();
+                }
+        );
+
+        assertEquals(0, syntaxInvocations.get());
+        assertEquals(0, chainInvocations.get());
+
+        assertEquals("test <arg>", exception.correctSyntax());
+        assertEquals("Invalid command syntax. Correct syntax is: test <arg>", exception.getMessage());
+        assertEquals(Collections.emptyList(), exception.currentChain());
+        assertEquals(Collections.emptyList(), exception.currentChain());
+
+        assertEquals(1, syntaxInvocations.get());
+        assertEquals(1, chainInvocations.get());
+    }
+}
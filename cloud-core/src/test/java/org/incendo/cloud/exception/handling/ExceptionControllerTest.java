@@ -91,6 +91,49 @@ class ExceptionControllerTest {
         verify(exceptionHandler).handle(this.exceptionContextFactory.createContext(this.commandContext, exception));
     }
 
+    @Test
+    void HandleException_HandlerRegisteredAfterHandling_NewHandlerUsed() throws Throwable {
+        // Arrange
+        final ExceptionHandler<Object, Throwable> parentHandler = mock(ExceptionHandler.class);
+        final ExceptionHandler<Object, NoSuchCommandException> exceptionHandler = mock(ExceptionHandler.class);
+        this.exceptionController.registerHandler(Throwable.class, parentHandler);
+        final NoSuchCommandException exception =  new NoSuchCommandException(
+                new Object(),
+                Collections.emptyList(),
+                ""
+        );
+        this.exceptionController.handleException(this.commandContext, exception);
+
+        // Act
+        this.exceptionController.registerHandler(NoSuchCommandException.class, exceptionHandler);
+        this.exceptionController.handleException(this.commandContext, exception);
+
+        // Assert
+        verify(parentHandler).handle(this.exceptionContextFactory.createContext(this.commandContext, exception));
+        verify(exceptionHandler).handle(this.exceptionContextFactory.createContext(this.commandContext, exception));
+    }
+
+    @Test
+    void HandleException_HandlersCleared_ExceptionReThrown() {
+        // Arrange
+        final ExceptionHandler<Object, Throwable> exceptionHandler = mock(ExceptionHandler.class);
+        this.exceptionController.registerHandler(Throwable.class, exceptionHandler);
+        final NoSuchCommandException exception =  new NoSuchCommandException(
+                new Object(),
+                Collections.emptyList(),
+                ""
+        );
+
+        // Act
+        this.exceptionController.clearHandlers();
+
+        // Assert
+        assertThrows(
+                NoSuchCommandException.class,
+                () -> this.exceptionController.handleException(this.commandContext, exception)
+        );
+    }
+
     @Test
     void HandleException_NoFallback_ExceptionReThrown() {
         // Arrange
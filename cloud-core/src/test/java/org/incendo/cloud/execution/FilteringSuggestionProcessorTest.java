@@ -86,4 +86,39 @@ class FilteringSuggestionProcessorTest {
                 arguments("test1 z", suggestionList("x y z a"))
         );
     }
+
+    @ParameterizedTest
+    @MethodSource
+    void testPartialTokenMatchesFilter(
+            final boolean ignoreCase,
+            final String suggestion,
+            final String input,
+            final boolean expected
+    ) {
+        // Arrange
+        final FilteringSuggestionProcessor.Filter.Simple<TestCommandSender> filter =
+                FilteringSuggestionProcessor.Filter.partialTokenMatches(ignoreCase);
+
+        // Act
+        final boolean result = filter.test(null, suggestion, input);
+
+        // Assert
+        assertThat(result).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> testPartialTokenMatchesFilter() {
+        return Stream.of(
+                arguments(true, "Hello World", "", true),
+                arguments(true, "Hello World", "wor", true),
+                arguments(true, "Hello World", "WOR hel", true),
+                arguments(false, "Hello World", "wor", false),
+                arguments(false, "Hello World", "Wor", true),
+                arguments(true, "hello  world", "o o", true),
+                arguments(true, "hello world", "o o o", false),
+                arguments(true, "hello", "hello ", false),
+                arguments(true, "hello ", "hello ", true),
+                arguments(true, "", " ", false),
+                arguments(true, "abc", "abcd", false)
+        );
+    }
 }
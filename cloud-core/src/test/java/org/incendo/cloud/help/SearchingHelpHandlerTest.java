@@ -0,0 +1,156 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.help;
+
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CloudCapability;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.help.result.CommandEntry;
+import org.incendo.cloud.help.result.HelpQueryResult;
+import org.incendo.cloud.help.result.IndexCommandResult;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.description.CommandDescription.commandDescription;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+class SearchingHelpHandlerTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private SearchingHelpHandler<TestCommandSender> helpHandler;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new CommandManager<TestCommandSender>(
+                ExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            {
+                this.registerCapability(CloudCapability.StandardCapabilities.ROOT_COMMAND_DELETION);
+            }
+
+            @Override
+            public boolean hasPermission(
+                    final @NonNull TestCommandSender sender,
+                    final @NonNull String permission
+            ) {
+                return true;
+            }
+        };
+        this.helpHandler = new SearchingHelpHandler<>(this.commandManager, command -> true);
+
+        this.commandManager.command(
+                this.commandManager.commandBuilder("teleport")
+                        .commandDescription(commandDescription("Moves you to another player"))
+                        .required("target", integerParser())
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("money")
+                        .commandDescription(commandDescription("Shows your balance"))
+                        .literal("pay")
+                        .required("amount", integerParser())
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("kick")
+                        .commandDescription(commandDescription("Removes a player from the server"))
+        );
+    }
+
+    @Test
+    void testSearchByDescription() {
+        // Act
+        final HelpQueryResult<TestCommandSender> result = this.helpHandler.query(
+                HelpQuery.of(new TestCommandSender(), "Player")
+        );
+
+        // Assert
+        assertThat(result).isInstanceOf(IndexCommandResult.class);
+        assertThat(((IndexCommandResult<TestCommandSender>) result).entries().stream().map(CommandEntry::syntax))
+                .containsExactly("teleport <target>", "kick");
+    }
+
+    @Test
+    void testSearchRanksLiteralsAboveDescriptions() {
+        // Arrange
+        this.commandManager.command(
+                this.commandManager.commandBuilder("player")
+                        .commandDescription(commandDescription("Shows information"))
+        );
+
+        // Act
+        final HelpQueryResult<TestCommandSender> result = this.helpHandler.query(
+                HelpQuery.of(new TestCommandSender(), "player")
+        );
+
+        // Assert
+        assertThat(((IndexCommandResult<TestCommandSender>) result).entries().get(0).syntax()).isEqualTo("player");
+    }
+
+    @Test
+    void testSearchByPrefixAndArgumentName() {
+        // Act
+        final HelpQueryResult<TestCommandSender> result = this.helpHandler.query(
+                HelpQuery.of(new TestCommandSender(), "pay amou")
+        );
+
+        // Assert
+        assertThat(((IndexCommandResult<TestCommandSender>) result).entries().stream().map(CommandEntry::syntax))
+                .containsExactly("money pay <amount>");
+    }
+
+    @Test
+    void testDeletedCommandIsRemoved() {
+        // Arrange
+        this.helpHandler.search(new TestCommandSender(), "kick", 10);
+
+        // Act
+        this.commandManager.deleteRootCommand("kick");
+        final HelpQueryResult<TestCommandSender> result = this.helpHandler.query(
+                HelpQuery.of(new TestCommandSender(), "kick")
+        );
+
+        // Assert
+        assertThat(((IndexCommandResult<TestCommandSender>) result).entries()).isEmpty();
+    }
+
+    @Test
+    void testCommandsRegisteredBeforeCreationAreIndexed() {
+        // Arrange
+        final SearchingHelpHandler<TestCommandSender> helpHandler = new SearchingHelpHandler<>(
+                this.commandManager,
+                command -> true
+        );
+
+        // Act
+        final List<CommandEntry<TestCommandSender>> entries = helpHandler.search(new TestCommandSender(), "kick", 10);
+
+        // Assert
+        assertThat(entries.stream().map(CommandEntry::syntax)).containsExactly("kick");
+    }
+}
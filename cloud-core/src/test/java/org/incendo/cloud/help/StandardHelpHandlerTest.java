@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.help;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.TestCommandSender;
@@ -41,6 +43,7 @@ import static org.incendo.cloud.description.CommandDescription.commandDescriptio
 import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
 import static org.incendo.cloud.parser.standard.StringParser.stringParser;
 import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StandardHelpHandlerTest {
 
@@ -87,6 +90,52 @@ class StandardHelpHandlerTest {
         );
     }
 
+    @Test
+    void testRootIndexPage() {
+        // Arrange
+        final List<String> expected = this.helpHandler.queryRootIndex(new TestCommandSender())
+                .entries()
+                .stream()
+                .map(CommandEntry::syntax)
+                .collect(Collectors.toList());
+
+        // Act
+        final IndexCommandResult<?> first = this.helpHandler.queryRootIndex(new TestCommandSender(), 0, 3);
+        final IndexCommandResult<?> second = this.helpHandler.queryRootIndex(new TestCommandSender(), 1, 3);
+        final IndexCommandResult<?> third = this.helpHandler.queryRootIndex(new TestCommandSender(), 2, 3);
+
+        // Assert
+        assertThat(first.entries().stream().map(CommandEntry::syntax).collect(Collectors.toList()))
+                .isEqualTo(expected.subList(0, 3));
+        assertThat(second.entries().stream().map(CommandEntry::syntax).collect(Collectors.toList()))
+                .isEqualTo(expected.subList(3, 4));
+        assertThat(third.entries()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1,3", "0,0", "0,-1"})
+    void testRootIndexPageRejectsInvalidArguments(final int page, final int pageSize) {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> this.helpHandler.queryRootIndex(new TestCommandSender(), page, pageSize)
+        );
+    }
+
+    @Test
+    void testIndexUpdatedAfterRegistration() {
+        // Arrange
+        this.helpHandler.queryRootIndex(new TestCommandSender());
+        this.commandManager.command(this.commandManager.commandBuilder("another"));
+
+        // Act
+        final HelpQueryResult<?> result = this.helpHandler.query(HelpQuery.of(new TestCommandSender(), "an"));
+
+        // Assert
+        assertThat(result).isInstanceOf(IndexCommandResult.class);
+        assertThat(((IndexCommandResult<?>) result).entries().stream().map(CommandEntry::syntax)).containsExactly("another");
+    }
+
     @ParameterizedTest
     @CsvSource({
             "test int, test int <int>",
@@ -147,4 +196,35 @@ class StandardHelpHandlerTest {
                 "test int <int>"
         );
     }
+
+    @Test
+    void testQueryUsesOverriddenCommands() {
+        // Arrange
+        final HelpHandler<TestCommandSender> helpHandler = new StandardHelpHandler<TestCommandSender>(
+                this.commandManager,
+                CommandPredicate.acceptAll()
+        ) {
+            @Override
+            protected @NonNull List<@NonNull CommandEntry<TestCommandSender>> commands(
+                    final @NonNull TestCommandSender sender
+            ) {
+                return super.commands(sender)
+                        .stream()
+                        .filter(entry -> !entry.syntax().equals("test <string>"))
+                        .collect(Collectors.toList());
+            }
+        };
+
+        // Act
+        final HelpQueryResult<?> result = helpHandler.query(HelpQuery.of(new TestCommandSender(), "te"));
+        final IndexCommandResult<?> page = helpHandler.queryRootIndex(new TestCommandSender(), 0, 10);
+
+        // Assert
+        assertThat(result).isInstanceOf(IndexCommandResult.class);
+        assertThat(((IndexCommandResult<?>) result).entries().stream().map(CommandEntry::syntax)).containsExactly(
+                "test int <int>",
+                "test foo bar"
+        );
+        assertThat(page.entries().stream().map(CommandEntry::syntax)).doesNotContain("test <string>");
+    }
 }
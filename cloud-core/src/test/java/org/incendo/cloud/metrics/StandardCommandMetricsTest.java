@@ -0,0 +1,142 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.metrics;
+
+import com.google.common.collect.Range;
+import java.util.concurrent.CompletionException;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StandardCommandMetricsTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private StandardCommandMetrics<TestCommandSender> metrics;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.metrics = new StandardCommandMetrics<>();
+        this.commandManager.commandMetrics(this.metrics);
+        this.commandManager.command(this.commandManager.commandBuilder("test").required("int", integerParser()));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("sub"));
+    }
+
+    @Test
+    void testExecutionPhasesAreRecorded() {
+        // Act
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Assert
+        assertThat(this.metrics.statistics("test", CommandPhase.PREPROCESSING).count()).isEqualTo(1);
+        assertThat(this.metrics.statistics("test", CommandPhase.PARSING).count()).isEqualTo(1);
+        assertThat(this.metrics.statistics("test", CommandPhase.POSTPROCESSING).count()).isEqualTo(1);
+        assertThat(this.metrics.statistics("test", CommandPhase.EXECUTION).count()).isEqualTo(1);
+        assertThat(this.metrics.statistics("test", CommandPhase.EXCEPTION_HANDLING).count()).isEqualTo(0);
+        assertThat(this.metrics.statistics().keySet()).containsExactly("test");
+    }
+
+    @Test
+    void testParseFailureIsAttributedToRootCommand() {
+        // Act
+        assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test abc").join()
+        );
+
+        // Assert
+        final PhaseStatistics parsing = this.metrics.statistics("test", CommandPhase.PARSING);
+        assertThat(parsing.count()).isEqualTo(1);
+        assertThat(parsing.failures()).isEqualTo(1);
+        assertThat(this.metrics.statistics("test", CommandPhase.EXECUTION).count()).isEqualTo(0);
+        assertThat(this.metrics.statistics("test", CommandPhase.EXCEPTION_HANDLING).count()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnknownCommand() {
+        // Act
+        assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "unknown").join()
+        );
+
+        // Assert
+        final PhaseStatistics parsing = this.metrics.statistics(StandardCommandMetrics.UNKNOWN_COMMAND, CommandPhase.PARSING);
+        assertThat(parsing.count()).isEqualTo(1);
+        assertThat(parsing.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void testSuggestionsAreRecorded() {
+        // Act
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test s");
+        this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "te");
+
+        // Assert
+        assertThat(this.metrics.statistics("test", CommandPhase.SUGGESTIONS).count()).isEqualTo(1);
+        assertThat(this.metrics.statistics(StandardCommandMetrics.UNKNOWN_COMMAND, CommandPhase.SUGGESTIONS).count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testPercentiles() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = new CommandContext<>(new TestCommandSender(), this.commandManager);
+
+        // Act
+        for (int i = 1; i <= 1000; i++) {
+            this.metrics.record(context, "test", CommandPhase.EXECUTION, i, i % 10 != 0);
+        }
+
+        // Assert
+        final PhaseStatistics statistics = this.metrics.statistics("test", CommandPhase.EXECUTION);
+        assertThat(statistics.count()).isEqualTo(1000);
+        assertThat(statistics.failures()).isEqualTo(100);
+        assertThat(statistics.maxNanos()).isEqualTo(1000);
+        assertThat(statistics.meanNanos()).isEqualTo(500.5D);
+        assertThat(statistics.percentileNanos(50D)).isIn(Range.closed(500L, 563L));
+        assertThat(statistics.percentileNanos(99D)).isIn(Range.closed(990L, 1000L));
+        assertThat(statistics.percentileNanos(100D)).isEqualTo(1000);
+    }
+
+    @Test
+    void testReset() {
+        // Arrange
+        this.commandManager.commandExecutor().executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Act
+        this.metrics.reset();
+
+        // Assert
+        assertThat(this.metrics.statistics()).isEmpty();
+        assertThat(this.metrics.statistics("test", CommandPhase.EXECUTION).count()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,170 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.context.StandardCommandContextFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class CachedSuggestionProviderTest {
+
+    private CommandContext<TestCommandSender> commandContext;
+    private List<CompletableFuture<Iterable<Suggestion>>> requests;
+    private AtomicLong clock;
+    private CachedSuggestionProvider<TestCommandSender> provider;
+
+    @BeforeEach
+    void setup() {
+        this.commandContext = new StandardCommandContextFactory<>(createManager()).create(true, new TestCommandSender());
+        this.requests = new ArrayList<>();
+        this.clock = new AtomicLong();
+        this.provider = new CachedSuggestionProvider<>(
+                (ctx, input) -> {
+                    final CompletableFuture<Iterable<Suggestion>> future = new CompletableFuture<>();
+                    this.requests.add(future);
+                    return future;
+                },
+                (ctx, input) -> input.lastRemainingToken(),
+                Duration.ofSeconds(10),
+                2,
+                this.clock::get
+        );
+    }
+
+    @Test
+    void testConcurrentRequestsAreCoalesced() {
+        // Act
+        final CompletableFuture<?> first = this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        final CompletableFuture<?> second = this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.requests.get(0).complete(suggestionList("a", "ab"));
+
+        // Assert
+        assertThat(this.requests).hasSize(1);
+        assertThat(first.join()).isEqualTo(suggestionList("a", "ab"));
+        assertThat(second.join()).isEqualTo(suggestionList("a", "ab"));
+        assertThat(this.provider.hits()).isEqualTo(1);
+        assertThat(this.provider.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void testExpiredEntryIsReplaced() {
+        // Arrange
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.requests.get(0).complete(suggestionList("a"));
+
+        // Act
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+
+        // Assert
+        assertThat(this.requests).hasSize(2);
+        assertThat(this.provider.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        // Arrange
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("b"));
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+
+        // Act
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("c"));
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("b"));
+
+        // Assert
+        assertThat(this.requests).hasSize(4);
+        assertThat(this.provider.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailedRequestIsNotCached() {
+        // Arrange
+        final CompletableFuture<?> first = this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.requests.get(0).completeExceptionally(new IllegalStateException());
+
+        // Act
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+
+        // Assert
+        assertThat(first.isCompletedExceptionally()).isTrue();
+        assertThat(this.requests).hasSize(2);
+    }
+
+    @Test
+    void testCancelledRequestDoesNotAffectEntry() {
+        // Arrange
+        final CompletableFuture<?> first = this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+
+        // Act
+        first.cancel(false);
+        final CompletableFuture<?> second = this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.requests.get(0).complete(suggestionList("a"));
+
+        // Assert
+        assertThat(this.requests).hasSize(1);
+        assertThat(second.join()).isEqualTo(suggestionList("a"));
+    }
+
+    @Test
+    void testExpiredEntriesAreEvictedOnInsert() {
+        // Arrange
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("a"));
+        this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Act
+        this.provider.suggestionsFuture(this.commandContext, CommandInput.of("b"));
+
+        // Assert
+        assertThat(this.provider.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testNarrowsByPrefixIsDelegated() {
+        // Act
+        final CachedSuggestionProvider<TestCommandSender> narrowing = SuggestionProvider.cached(
+                SuggestionProvider.suggestingStrings("a", "b"),
+                (ctx, input) -> input.lastRemainingToken(),
+                Duration.ofSeconds(10),
+                2
+        );
+
+        // Assert
+        assertThat(narrowing.narrowsByPrefix()).isTrue();
+        assertThat(this.provider.narrowsByPrefix()).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class IndexedSuggestionProviderTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(this.commandManager.commandBuilder("test").required(
+                "arg",
+                stringParser(),
+                IndexedSuggestionProvider.of("beta", "Alpha", "alphabet", "gamma", "alp")
+        ));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testPrefixMatches(final String input, final List<Suggestion> expected) {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), input)
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    static Stream<Arguments> testPrefixMatches() {
+        return Stream.of(
+                arguments("test ", suggestionList("alp", "Alpha", "alphabet", "beta", "gamma")),
+                arguments("test al", suggestionList("alp", "Alpha", "alphabet")),
+                arguments("test ALPHA", suggestionList("Alpha", "alphabet")),
+                arguments("test b", suggestionList("beta")),
+                arguments("test eta", suggestionList()),
+                arguments("test z", suggestionList())
+        );
+    }
+
+    @Test
+    void testLimitedPrefixMatches() {
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggest(new TestCommandSender(), "test al", 2, null)
+                .join()
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alp", "Alpha")).inOrder();
+    }
+
+    @Test
+    void testConfiguredFilterIsApplied() {
+        // Arrange
+        this.commandManager.suggestionProcessor(
+                new FilteringSuggestionProcessor<>(FilteringSuggestionProcessor.Filter.startsWith(false))
+        );
+
+        // Act
+        final List<? extends Suggestion> suggestions = this.commandManager.suggestionFactory()
+                .suggestImmediately(new TestCommandSender(), "test al")
+                .list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alp", "alphabet")).inOrder();
+    }
+
+    @Test
+    void testSessionFiltersReusedSuggestionsAgainstLongerInput() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+        session.suggest("test al").join();
+
+        // Act
+        final List<? extends Suggestion> suggestions = session.suggest("test alphab").join().list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("alphabet"));
+    }
+}
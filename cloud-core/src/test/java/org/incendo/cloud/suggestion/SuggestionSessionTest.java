@@ -0,0 +1,213 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.suggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.TestCommandSender;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.ArgumentTestHelper.suggestionList;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+import static org.incendo.cloud.util.TestUtils.createManager;
+
+class SuggestionSessionTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private AtomicInteger invocations;
+    private AtomicInteger parses;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.invocations = new AtomicInteger();
+        this.parses = new AtomicInteger();
+        this.commandManager.command(this.commandManager.commandBuilder("test").required(
+                "arg",
+                stringParser(),
+                new BlockingSuggestionProvider.Strings<TestCommandSender>() {
+                    @Override
+                    public Iterable<String> stringSuggestions(
+                            final CommandContext<TestCommandSender> commandContext,
+                            final CommandInput input
+                    ) {
+                        SuggestionSessionTest.this.invocations.incrementAndGet();
+                        return Arrays.asList("alpha", "alphabet", "beta");
+                    }
+
+                    @Override
+                    public boolean narrowsByPrefix() {
+                        return true;
+                    }
+                }
+        ).literal("literal"));
+        this.commandManager.command(this.commandManager.commandBuilder("other"));
+        this.commandManager.command(this.commandManager.commandBuilder("number").required("number", integerParser()));
+        this.commandManager.command(this.commandManager.commandBuilder("resume")
+                .required("name", ParserDescriptor.of((ArgumentParser<TestCommandSender, String>) (context, input) -> {
+                    this.parses.incrementAndGet();
+                    return ArgumentParseResult.success(input.readString());
+                }, String.class))
+                .required("number", integerParser()));
+    }
+
+    @Test
+    void testExtendedTokenReusesSuggestions() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        final List<? extends Suggestion> first = session.suggest("test ").join().list();
+        final List<? extends Suggestion> second = session.suggest("test a").join().list();
+        final List<? extends Suggestion> third = session.suggest("test alphab").join().list();
+        final List<? extends Suggestion> fourth = session.suggest("test alphabx").join().list();
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("alpha", "alphabet", "beta"));
+        assertThat(second).containsExactlyElementsIn(suggestionList("alpha", "alphabet"));
+        assertThat(third).containsExactlyElementsIn(suggestionList("alphabet"));
+        assertThat(fourth).isEmpty();
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testNewTokenCollectsSuggestions() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        session.suggest("test al").join();
+        final List<? extends Suggestion> suggestions = session.suggest("test alpha ").join().list();
+
+        // Assert
+        assertThat(suggestions).containsExactlyElementsIn(
+                this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "test alpha ").list()
+        );
+        assertThat(suggestions).containsExactlyElementsIn(suggestionList("literal"));
+    }
+
+    @Test
+    void testCompleteTokenCollectsSuggestions() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        final List<? extends Suggestion> first = session.suggest("oth").join().list();
+        final List<? extends Suggestion> second = session.suggest("other").join().list();
+
+        // Assert
+        assertThat(first).containsExactlyElementsIn(suggestionList("other"));
+        assertThat(second).containsExactlyElementsIn(
+                this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), "other").list()
+        );
+    }
+
+    @Test
+    void testInvalidate() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        session.suggest("test a").join();
+        session.invalidate();
+        session.suggest("test al").join();
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testIntegerSuggestionsAreRecomputedAsTheTokenIsExtended() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        final List<List<? extends Suggestion>> sessionSuggestions = new ArrayList<>();
+        final List<List<? extends Suggestion>> expectedSuggestions = new ArrayList<>();
+        for (final String input : Arrays.asList("number ", "number 1", "number 12", "number 123")) {
+            sessionSuggestions.add(session.suggest(input).join().list());
+            expectedSuggestions.add(
+                    this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), input).list()
+            );
+        }
+
+        // Assert
+        assertThat(sessionSuggestions).isEqualTo(expectedSuggestions);
+        assertThat(sessionSuggestions.get(2)).contains(Suggestion.suggestion("120"));
+    }
+
+    @Test
+    void testWalkIsResumedAfterUnchangedTokens() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        final List<List<? extends Suggestion>> sessionSuggestions = new ArrayList<>();
+        for (final String input : Arrays.asList("resume name ", "resume name 1", "resume name 12")) {
+            sessionSuggestions.add(session.suggest(input).join().list());
+        }
+        final int parses = this.parses.get();
+        final List<List<? extends Suggestion>> expectedSuggestions = new ArrayList<>();
+        for (final String input : Arrays.asList("resume name ", "resume name 1", "resume name 12")) {
+            expectedSuggestions.add(
+                    this.commandManager.suggestionFactory().suggestImmediately(new TestCommandSender(), input).list()
+            );
+        }
+
+        // Assert
+        assertThat(sessionSuggestions).isEqualTo(expectedSuggestions);
+        assertThat(parses).isEqualTo(1);
+    }
+
+    @Test
+    void testWalkStartsFromRootWhenTokensChange() {
+        // Arrange
+        final SuggestionSession<TestCommandSender, ? extends Suggestion> session =
+                this.commandManager.suggestionFactory().session(new TestCommandSender());
+
+        // Act
+        session.suggest("resume name 1").join();
+        session.suggest("resume other 1").join();
+
+        // Assert
+        assertThat(this.parses.get()).isEqualTo(2);
+    }
+}
@@ -106,6 +106,47 @@ class StandardCommandSyntaxFormatterTest {
         assertThat(formatted).isEqualTo(" all");
     }
 
+    @Test
+    void senderAgnosticRendersAllChildren() {
+        final CommandSyntaxFormatter<TestCommandSender> formatter = new StandardCommandSyntaxFormatter<>(this.manager, true);
+        final Command.Builder<TestCommandSender> root = this.manager.commandBuilder("root");
+        this.manager.command(
+                root.literal("all")
+                        .handler(ctx -> {})
+        );
+        this.manager.command(
+                root.literal("permitted_only")
+                        .permission("some_permission")
+                        .handler(ctx -> {})
+        );
+
+        final CommandNode<TestCommandSender> rootNode = this.manager.commandTree().getNamedNode("root");
+
+        final String formatted = formatter.apply(new TestCommandSender(), Collections.emptyList(), rootNode);
+        assertThat(formatted).isEqualTo(" all|permitted_only");
+    }
+
+    @Test
+    void invalidatesAfterRegistration() {
+        final Command.Builder<TestCommandSender> root = this.manager.commandBuilder("root");
+        this.manager.command(
+                root.literal("first")
+                        .handler(ctx -> {})
+        );
+
+        final CommandNode<TestCommandSender> rootNode = this.manager.commandTree().getNamedNode("root");
+        final String formatted = this.formatter.apply(new TestCommandSender(), Collections.emptyList(), rootNode);
+        assertThat(formatted).isEqualTo(" first");
+
+        this.manager.command(
+                root.literal("second")
+                        .handler(ctx -> {})
+        );
+
+        final String updated = this.formatter.apply(new TestCommandSender(), Collections.emptyList(), rootNode);
+        assertThat(updated).isEqualTo(" first|second");
+    }
+
     static final class SpecificTestCommandSender extends TestCommandSender {
 
     }
@@ -36,6 +36,9 @@ include(":cloud-core")
 include(":cloud-services")
 include(":cloud-annotations")
 
+// Benchmarks
+include(":cloud-benchmarks")
+
 // Kotlin Extensions
 setupKotlinModule("cloud-kotlin-extensions")
 setupKotlinModule("cloud-kotlin-coroutines")